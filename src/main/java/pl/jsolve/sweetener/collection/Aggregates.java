@@ -0,0 +1,45 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Arrays;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Values of the aggregations of a single group, in the order the aggregations were given. Averages, minimums,
+ * maximums and variances of fields without any non-null value in the group are NaN.
+ */
+public class Aggregates {
+
+    private final Aggregation[] aggregations;
+    private final double[] values;
+    private final long count;
+
+    public Aggregates(Aggregation[] aggregations, double[] values, long count) {
+        this.aggregations = aggregations;
+        this.values = values;
+        this.count = count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double get(int index) {
+        return values[index];
+    }
+
+    public double get(Aggregation aggregation) {
+        for (int i = 0; i < aggregations.length; i++) {
+            if (aggregations[i].equals(aggregation)) {
+                return values[i];
+            }
+        }
+        throw new InvalidArgumentException("The aggregation " + aggregation + " has not been computed");
+    }
+
+    @Override
+    public String toString() {
+        return "Aggregates [aggregations=" + Arrays.toString(aggregations) + ", values=" + Arrays.toString(values)
+                + ", count=" + count + "]";
+    }
+}
@@ -0,0 +1,89 @@
+package pl.jsolve.sweetener.collection;
+
+/**
+ * Aggregate function computed per group by {@link Collections#aggregate(Iterable, String[], Aggregation...)}. Null
+ * values of the field are skipped; the count without a field counts the elements of the group.
+ */
+public class Aggregation {
+
+    public enum Function {
+        COUNT, SUM, AVG, MIN, MAX, VARIANCE
+    }
+
+    private final Function function;
+    private final String fieldPath;
+
+    public Aggregation(Function function, String fieldPath) {
+        this.function = function;
+        this.fieldPath = fieldPath;
+    }
+
+    public static Aggregation count() {
+        return new Aggregation(Function.COUNT, null);
+    }
+
+    public static Aggregation count(String fieldPath) {
+        return new Aggregation(Function.COUNT, fieldPath);
+    }
+
+    public static Aggregation sum(String fieldPath) {
+        return new Aggregation(Function.SUM, fieldPath);
+    }
+
+    public static Aggregation avg(String fieldPath) {
+        return new Aggregation(Function.AVG, fieldPath);
+    }
+
+    public static Aggregation min(String fieldPath) {
+        return new Aggregation(Function.MIN, fieldPath);
+    }
+
+    public static Aggregation max(String fieldPath) {
+        return new Aggregation(Function.MAX, fieldPath);
+    }
+
+    /**
+     * Population variance, as computed by the variance methods of {@code Maths}.
+     */
+    public static Aggregation variance(String fieldPath) {
+        return new Aggregation(Function.VARIANCE, fieldPath);
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+
+    public String getFieldPath() {
+        return fieldPath;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + function.hashCode();
+        result = prime * result + ((fieldPath == null) ? 0 : fieldPath.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Aggregation other = (Aggregation) obj;
+        if (function != other.function)
+            return false;
+        if (fieldPath == null ? other.fieldPath != null : !fieldPath.equals(other.fieldPath))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Aggregation [function=" + function + ", fieldPath=" + fieldPath + "]";
+    }
+}
@@ -1,10 +1,20 @@
 package pl.jsolve.sweetener.collection;
 
+import java.util.AbstractList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
 import pl.jsolve.sweetener.exception.PaginationException;
 
+/**
+ * Elements chopped into pages. The pages are either given up front, or taken from a {@link PageSupplier} when they
+ * are visited, keeping the given number of recently visited pages, so chopping a large source costs memory
+ * proportional to the cached pages only. The current page is always kept, so it can be read again even when no pages
+ * are to be cached.
+ */
 public class ChoppedElements<T> {
 
     private int page;
@@ -12,6 +22,8 @@ public class ChoppedElements<T> {
     private final int totalElements;
     private final int numberOfPages;
     private final List<Collection<T>> listOfPages;
+    private final PageSupplier<T> pageSupplier;
+    private final Map<Integer, Collection<T>> cachedPages;
 
     public ChoppedElements(int page, int resultsPerPage, int totalElements, List<Collection<T>> listOfPages) {
         this.page = page;
@@ -19,6 +31,45 @@ public class ChoppedElements<T> {
         this.totalElements = totalElements;
         this.numberOfPages = calculateNumberOfPages(resultsPerPage, totalElements);
         this.listOfPages = listOfPages;
+        this.pageSupplier = null;
+        this.cachedPages = null;
+    }
+
+    public ChoppedElements(int page, int resultsPerPage, int totalElements, PageSupplier<T> pageSupplier) {
+        this(page, resultsPerPage, totalElements, pageSupplier, 0);
+    }
+
+    public ChoppedElements(int page, int resultsPerPage, int totalElements, PageSupplier<T> pageSupplier,
+            final int numberOfCachedPages) {
+        if (numberOfCachedPages < 0) {
+            throw new InvalidArgumentException("The number of cached pages cannot be negative");
+        }
+        this.page = page;
+        this.resultsPerPage = resultsPerPage;
+        this.totalElements = totalElements;
+        this.numberOfPages = calculateNumberOfPages(resultsPerPage, totalElements);
+        this.pageSupplier = pageSupplier;
+        this.cachedPages = new LinkedHashMap<Integer, Collection<T>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Collection<T>> eldest) {
+                return size() > Math.max(numberOfCachedPages, 1);
+            }
+        };
+        this.listOfPages = new AbstractList<Collection<T>>() {
+
+            @Override
+            public Collection<T> get(int index) {
+                return getElementsOfPage(index);
+            }
+
+            @Override
+            public int size() {
+                return numberOfPages;
+            }
+        };
     }
 
     private int calculateNumberOfPages(int resultsPerPage, int totalElements) {
@@ -51,6 +102,18 @@ public class ChoppedElements<T> {
         return listOfPages.get(page);
     }
 
+    private Collection<T> getElementsOfPage(int page) {
+        if (page < 0 || page >= numberOfPages) {
+            throw new IndexOutOfBoundsException("Page: " + page + ", number of pages: " + numberOfPages);
+        }
+        Collection<T> elementsOfPage = cachedPages.get(page);
+        if (elementsOfPage == null) {
+            elementsOfPage = pageSupplier.getElementsOfPage(page);
+            cachedPages.put(page, elementsOfPage);
+        }
+        return elementsOfPage;
+    }
+
     public int getPage() {
         return page;
     }
@@ -71,6 +134,9 @@ public class ChoppedElements<T> {
         return numberOfPages;
     }
 
+    /**
+     * Returns the pages; for pages taken from a supplier, a view asking the supplier for pages which are not cached.
+     */
     public List<Collection<T>> getListOfPages() {
         return listOfPages;
     }
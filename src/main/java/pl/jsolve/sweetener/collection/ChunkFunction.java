@@ -0,0 +1,9 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.List;
+
+public interface ChunkFunction<T, R> {
+
+    R apply(List<T> chunk) throws Exception;
+
+}
@@ -0,0 +1,35 @@
+package pl.jsolve.sweetener.collection;
+
+public class ChunkResult<R> {
+
+    private final int index;
+    private final R result;
+    private final Throwable error;
+
+    public ChunkResult(int index, R result, Throwable error) {
+        this.index = index;
+        this.result = result;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public R getResult() {
+        return result;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkResult [index=" + index + ", result=" + result + ", error=" + error + "]";
+    }
+}
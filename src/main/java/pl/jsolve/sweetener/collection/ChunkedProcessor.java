@@ -0,0 +1,125 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import pl.jsolve.sweetener.exception.ChunkProcessingException;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Applies a function to consecutive chunks of elements concurrently. Elements are read into a chunk only when there
+ * is room for it: at most the number of workers plus the queue capacity chunks are read and not yet processed, so a
+ * slow function holds back reading the source instead of buffering it. The results, and the errors thrown by the
+ * function, are returned in the order of the chunks; an error does not stop processing of other chunks.
+ * <p>
+ * By default every call runs the chunks on its own pool of worker threads. A shared executor, e.g. one running every
+ * task in a new virtual thread, may be given instead; it is not shut down.
+ */
+public class ChunkedProcessor<T, R> {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final int chunkSize;
+    private final int numberOfWorkers;
+    private final int queueCapacity;
+    private final ChunkFunction<T, R> function;
+    private final ExecutorService executor;
+
+    public ChunkedProcessor(int chunkSize, int numberOfWorkers, ChunkFunction<T, R> function) {
+        this(chunkSize, numberOfWorkers, numberOfWorkers, function);
+    }
+
+    public ChunkedProcessor(int chunkSize, int numberOfWorkers, int queueCapacity, ChunkFunction<T, R> function) {
+        this(chunkSize, numberOfWorkers, queueCapacity, function, null);
+    }
+
+    public ChunkedProcessor(int chunkSize, int numberOfWorkers, int queueCapacity, ChunkFunction<T, R> function,
+            ExecutorService executor) {
+        if (chunkSize < 1) {
+            throw new InvalidArgumentException("The chunk size has to be greater than zero");
+        }
+        if (numberOfWorkers < 1) {
+            throw new InvalidArgumentException("The number of workers has to be greater than zero");
+        }
+        if (queueCapacity < 0) {
+            throw new InvalidArgumentException("The queue capacity cannot be negative");
+        }
+        this.chunkSize = chunkSize;
+        this.numberOfWorkers = numberOfWorkers;
+        this.queueCapacity = queueCapacity;
+        this.function = function;
+        this.executor = executor;
+    }
+
+    public List<ChunkResult<R>> process(Iterable<T> elements) {
+        return process(elements.iterator());
+    }
+
+    public List<ChunkResult<R>> process(Iterator<T> elements) {
+        ExecutorService executorService = executor != null ? executor : Executors.newFixedThreadPool(numberOfWorkers,
+                new WorkerThreadFactory());
+        final Semaphore chunksInProgress = new Semaphore(numberOfWorkers + queueCapacity);
+        List<Future<R>> futures = Collections.newArrayList();
+        try {
+            while (elements.hasNext()) {
+                chunksInProgress.acquire();
+                final List<T> chunk = Collections.newArrayListWithCapacity(chunkSize);
+                while (chunk.size() < chunkSize && elements.hasNext()) {
+                    chunk.add(elements.next());
+                }
+                futures.add(executorService.submit(new Callable<R>() {
+
+                    @Override
+                    public R call() throws Exception {
+                        try {
+                            return function.apply(chunk);
+                        } finally {
+                            chunksInProgress.release();
+                        }
+                    }
+                }));
+            }
+            return collectResults(futures);
+        } catch (InterruptedException e) {
+            for (Future<R> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new ChunkProcessingException("Processing of chunks has been interrupted", e);
+        } finally {
+            if (executor == null) {
+                executorService.shutdown();
+            }
+        }
+    }
+
+    private List<ChunkResult<R>> collectResults(List<Future<R>> futures) throws InterruptedException {
+        List<ChunkResult<R>> results = Collections.newArrayListWithCapacity(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(new ChunkResult<R>(i, futures.get(i).get(), null));
+            } catch (ExecutionException e) {
+                results.add(new ChunkResult<R>(i, null, e.getCause()));
+            }
+        }
+        return results;
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "sweetener-chunk-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -5,37 +5,144 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.RandomAccess;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
+import pl.jsolve.sweetener.core.Condition;
 import pl.jsolve.sweetener.core.Reflections;
+import pl.jsolve.sweetener.criteria.CompiledCriteria;
 import pl.jsolve.sweetener.criteria.ComplexRestriction;
 import pl.jsolve.sweetener.criteria.Criteria;
+import pl.jsolve.sweetener.criteria.CriteriaMetrics;
+import pl.jsolve.sweetener.criteria.CriteriaMetrics.RestrictionCounters;
 import pl.jsolve.sweetener.criteria.FieldRestriction;
 import pl.jsolve.sweetener.criteria.Restriction;
 import pl.jsolve.sweetener.exception.InvalidArgumentException;
 
 public final class Collections {
 
+    private static final int MIN_ELEMENTS_PER_PARALLEL_TASK = 1024;
+    private static final int TASKS_PER_THREAD = 4;
+
     private Collections() {
         throw new AssertionError("Using constructor of this class is prohibited.");
     }
 
     public static <T> Collection<T> filter(Collection<T> collection, Criteria criteria) {
         Collection<T> result = createNewInstanceOfCollection(collection.getClass());
+        Condition<Object> condition = asCondition(criteria);
 
         for (T t : collection) {
-            if (checkIfElementSatisfiesConditions(t, criteria)) {
+            if (condition.isSatisfied(t)) {
                 result.add(t);
             }
         }
         return result;
     }
 
+    public static <T> Collection<T> filter(Collection<T> collection, CompiledCriteria criteria) {
+        Collection<T> result = createNewInstanceOfCollection(collection.getClass());
+
+        for (T t : collection) {
+            if (criteria.isSatisfied(t)) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    public static <T> Iterable<T> lazyFilter(final Iterable<T> elements, final Criteria criteria) {
+        return new Iterable<T>() {
+
+            @Override
+            public Iterator<T> iterator() {
+                return lazyFilter(elements.iterator(), criteria);
+            }
+        };
+    }
+
+    public static <T> Iterator<T> lazyFilter(Iterator<T> elements, Criteria criteria) {
+        return new FilteringIterator<T>(elements, asCondition(criteria));
+    }
+
+    public static <T> List<T> first(Iterable<T> elements, Criteria criteria, int n) {
+        return first(elements.iterator(), criteria, n);
+    }
+
+    public static <T> List<T> first(Iterator<T> elements, Criteria criteria, int n) {
+        if (n < 0) {
+            throw new InvalidArgumentException("The number of elements cannot be negative");
+        }
+        List<T> result = Collections.newArrayList();
+        Iterator<T> filteredElements = lazyFilter(elements, criteria);
+        while (result.size() < n && filteredElements.hasNext()) {
+            result.add(filteredElements.next());
+        }
+        return result;
+    }
+
+    public static long count(Iterable<?> elements, Criteria criteria) {
+        return count(elements.iterator(), criteria);
+    }
+
+    public static long count(Iterator<?> elements, Criteria criteria) {
+        Condition<Object> condition = asCondition(criteria);
+        long count = 0;
+        while (elements.hasNext()) {
+            if (condition.isSatisfied(elements.next())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static <T> Collection<T> parallelFilter(Collection<T> collection, Criteria criteria, int parallelism) {
+        return filterInParallel(collection, asCondition(criteria), parallelism);
+    }
+
+    public static <T> Collection<T> parallelFilter(Collection<T> collection, CompiledCriteria criteria,
+            int parallelism) {
+        return filterInParallel(collection, criteria, parallelism);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Collection<T> filterInParallel(Collection<T> collection, Condition<Object> condition,
+            int parallelism) {
+        if (parallelism < 1) {
+            throw new InvalidArgumentException("The parallelism has to be greater than zero");
+        }
+        List<T> elements;
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            elements = (List<T>) collection;
+        } else {
+            elements = (List<T>) Arrays.asList(collection.toArray());
+        }
+        boolean[] satisfied = new boolean[elements.size()];
+        int threshold = Math.max(MIN_ELEMENTS_PER_PARALLEL_TASK, elements.size() / (parallelism * TASKS_PER_THREAD));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ParallelFilterTask(elements, condition, satisfied, 0, elements.size(), threshold));
+        } finally {
+            pool.shutdown();
+        }
+
+        Collection<T> result = createNewInstanceOfCollection(collection.getClass());
+        for (int i = 0; i < satisfied.length; i++) {
+            if (satisfied[i]) {
+                result.add(elements.get(i));
+            }
+        }
+        return result;
+    }
+
     public static <T extends Collection<E>, E> T truncate(T collection, int to) {
         return truncate(collection, 0, to);
     }
@@ -76,8 +183,16 @@ public final class Collections {
         }
     }
 
-    private static boolean checkIfElementSatisfiesConditions(Object o, Criteria criteria) {
-        for (Restriction restriction : criteria.getSortedRestrictions()) {
+    private static Condition<Object> asCondition(Criteria criteria) {
+        return asCondition(criteria.getSortedRestrictions());
+    }
+
+    static Condition<Object> asCondition(List<Restriction> restrictions) {
+        return new RestrictionsCondition(restrictions);
+    }
+
+    private static boolean checkIfElementSatisfiesConditions(Object o, List<Restriction> restrictions) {
+        for (Restriction restriction : restrictions) {
 
             if (restriction instanceof FieldRestriction) {
                 Object fieldValue = Reflections.getFieldValue(o, ((FieldRestriction) restriction).getFieldName());
@@ -94,91 +209,233 @@ public final class Collections {
         return true;
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> Pagination<T> paginate(Collection<T> collection, int page, int resultsPerPage) {
-        int totalElements = collection.size();
-        int from = page * resultsPerPage;
-        int to = getTo(resultsPerPage, totalElements, from);
-        Collection<T> elementsOfPage = createNewInstanceOfCollection(collection.getClass());
-        if (from < collection.size()) {
-            elementsOfPage = truncate(collection, from, to);
+    private static boolean checkAndRecordIfElementSatisfiesConditions(Object o, List<Restriction> restrictions,
+            RestrictionCounters[] counters) {
+        for (int i = 0; i < counters.length; i++) {
+            Restriction restriction = restrictions.get(i);
+            boolean satisfied;
+            long start = System.nanoTime();
+            if (restriction instanceof FieldRestriction) {
+                Object fieldValue = Reflections.getFieldValue(o, ((FieldRestriction) restriction).getFieldName());
+                satisfied = restriction.satisfies(fieldValue);
+            } else if (restriction instanceof ComplexRestriction) {
+                satisfied = restriction.satisfies(o);
+            } else {
+                continue;
+            }
+            counters[i].record(satisfied, System.nanoTime() - start);
+            if (!satisfied) {
+                return false;
+            }
         }
-        return new Pagination<T>(page, resultsPerPage, totalElements, elementsOfPage);
+        return true;
     }
 
-    public static <T> ChoppedElements<T> chopElements(Collection<T> collection, int resultsPerPage) {
-        int totalElements = collection.size();
-        int numberOfPages = (totalElements + resultsPerPage - 1) / resultsPerPage;
-        List<Collection<T>> listOfPages = Collections.newArrayList();
-        for (int i = 0; i < numberOfPages; i++) {
-            Collection<T> elementsOfPage = truncate(collection, i * resultsPerPage,
-                    getTo(resultsPerPage, totalElements, i * resultsPerPage));
-            listOfPages.add(elementsOfPage);
+    /**
+     * Restrictions of criteria checked one after another. While the metrics are enabled, the counters of the
+     * restrictions are looked up once, so checking an element only adds to them.
+     */
+    private static class RestrictionsCondition implements Condition<Object> {
+
+        private final List<Restriction> restrictions;
+        private volatile RestrictionCounters[] counters;
+
+        RestrictionsCondition(List<Restriction> restrictions) {
+            this.restrictions = restrictions;
+        }
+
+        @Override
+        public boolean isSatisfied(Object o) {
+            if (!CriteriaMetrics.isEnabled()) {
+                return checkIfElementSatisfiesConditions(o, restrictions);
+            }
+            RestrictionCounters[] restrictionCounters = counters;
+            if (restrictionCounters == null) {
+                restrictionCounters = CriteriaMetrics.countersOf(restrictions);
+                counters = restrictionCounters;
+            }
+            return checkAndRecordIfElementSatisfiesConditions(o, restrictions, restrictionCounters);
         }
-        return new ChoppedElements<T>(0, resultsPerPage, totalElements, listOfPages);
     }
 
-    private static int getTo(int resultsPerPage, int totalElements, int from) {
-        int to = from + resultsPerPage;
-        to = to > totalElements - 1 ? totalElements : to;
-        return to - 1;
+    /**
+     * Returns the page as a read-only view of the collection, so nothing is copied. The view reflects later changes of
+     * the collection.
+     */
+    public static <T> Pagination<T> paginate(Collection<T> collection, int page, int resultsPerPage) {
+        int totalElements = collection.size();
+        int from = (int) Math.min((long) page * resultsPerPage, totalElements);
+        return new Pagination<T>(page, resultsPerPage, totalElements, viewOfPage(collection, from,
+                getTo(resultsPerPage, totalElements, from)));
     }
 
-    public static <E> Map<GroupKey, List<E>> group(Collection<E> collection, String... properties) {
-        Map<GroupKey, List<E>> map = Maps.newHashMap();
-
-        // prepare map of duplicates
-        for (E element : collection) {
-            Object[] fieldValues = getFieldsValues(element, properties);
-            GroupKey groupKey = new GroupKey(fieldValues);
-            if (map.containsKey(groupKey)) {
-                map.get(groupKey).add(element);
-            } else {
-                List<E> list = Collections.newArrayList();
-                list.add(element);
-                map.put(groupKey, list);
-            }
+    /**
+     * Returns up to limit elements following the cursor, or the first elements if the cursor is null. The collection
+     * has to be sorted ascending by the key, which may repeat. The next cursor of the returned pagination is the cursor
+     * to pass for the next page. Sorted lists with random access are searched in logarithmic time.
+     */
+    public static <T> Pagination<T> pageAfter(Collection<T> sortedCollection, String keyPath, PageCursor cursor,
+            int limit) {
+        return KeysetPaging.pageAfter(sortedCollection, keyPath, cursor, limit);
+    }
+
+    /**
+     * Returns up to limit elements with the key greater than the last seen key, or the first elements if the last key
+     * is null. Elements with a key equal to the last seen one are skipped, so pages should continue from the next
+     * cursor of the previous page rather than from its last key.
+     */
+    public static <T> Pagination<T> pageAfter(Collection<T> sortedCollection, String keyPath, Object lastKey,
+            int limit) {
+        return pageAfter(sortedCollection, keyPath, lastKey == null ? null : PageCursor.after(lastKey), limit);
+    }
+
+    /**
+     * Returns up to limit elements of the set following the cursor, or the first elements if it is null. A cursor of
+     * a known element is created by {@link PageCursor#after(Object)}.
+     */
+    public static <T> Pagination<T> pageAfter(NavigableSet<T> sortedSet, PageCursor cursor, int limit) {
+        return KeysetPaging.pageAfter(sortedSet, cursor, limit);
+    }
+
+    /**
+     * Returns the values of up to limit entries of the map following the cursor, or the first values if it is null. A
+     * cursor of a known key is created by {@link PageCursor#after(Object)}.
+     */
+    public static <K, V> Pagination<V> pageAfter(NavigableMap<K, V> sortedMap, PageCursor cursor, int limit) {
+        return KeysetPaging.pageAfter(sortedMap, cursor, limit);
+    }
+
+    /**
+     * Chops the collection into pages created when they are visited. Pages of lists with random access are read-only
+     * views, so nothing is copied. Pages of other collections are read one after another by a single iterator, so
+     * visiting them in order costs the size of each page, and going back iterates the collection again.
+     */
+    public static <T> ChoppedElements<T> chopElements(final Collection<T> collection, final int resultsPerPage) {
+        final int totalElements = collection.size();
+        if (!(collection instanceof List && collection instanceof RandomAccess)) {
+            return new ChoppedElements<T>(0, resultsPerPage, totalElements, new IteratorPageSupplier<T>(collection,
+                    resultsPerPage));
         }
-        return map;
+        return new ChoppedElements<T>(0, resultsPerPage, totalElements, new PageSupplier<T>() {
+
+            @Override
+            public Collection<T> getElementsOfPage(int page) {
+                int from = page * resultsPerPage;
+                return viewOfPage(collection, from, getTo(resultsPerPage, totalElements, from));
+            }
+        });
+    }
+
+    /**
+     * Chops elements read from the iterator, reading a page when it is visited. Only the given number of recently
+     * visited pages, and at least the current one, is kept, so earlier pages can be visited again only while they are
+     * cached.
+     */
+    public static <T> ChoppedElements<T> chopElements(Iterator<T> elements, int totalElements, int resultsPerPage,
+            int numberOfCachedPages) {
+        return new ChoppedElements<T>(0, resultsPerPage, totalElements, new IteratorPageSupplier<T>(elements,
+                resultsPerPage), numberOfCachedPages);
+    }
+
+    // exclusive end of the page
+    private static int getTo(int resultsPerPage, int totalElements, int from) {
+        return (int) Math.min((long) from + resultsPerPage, totalElements);
     }
 
-    private static Object[] getFieldsValues(Object object, String... property) {
-        Object[] fieldValues = new Object[property.length];
-        for (int i = 0; i < property.length; i++) {
-            fieldValues[i] = Reflections.getFieldValue(object, property[i]);
+    private static <T> Collection<T> viewOfPage(Collection<T> collection, int from, int to) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return java.util.Collections.unmodifiableList(((List<T>) collection).subList(from, to));
         }
-        return fieldValues;
+        return new PageView<T>(collection, from, to - from);
     }
 
-    public static <E> Map<GroupKey, List<E>> duplicates(Collection<E> collection, String... properties) {
-        Map<GroupKey, List<E>> groups = group(collection, properties);
+    public static <E> Map<GroupKey, List<E>> group(Collection<E> collection, String... properties) {
+        return Grouping.group(collection, properties);
+    }
 
-        // prepare keys to remove
-        List<GroupKey> keysToRemove = Collections.newArrayList();
-        for (Entry<GroupKey, List<E>> entry : groups.entrySet()) {
-            if (entry.getValue().size() == 1) {
-                keysToRemove.add(entry.getKey());
-            }
+    /**
+     * Groups the elements using the given number of threads. Elements of every group keep the order of the
+     * collection, as in {@link #group(Collection, String...)}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Map<GroupKey, List<E>> parallelGroup(Collection<E> collection, int parallelism,
+            String... properties) {
+        if (parallelism < 1) {
+            throw new InvalidArgumentException("The parallelism has to be greater than zero");
         }
-        // remove unique values
-        for (GroupKey key : keysToRemove) {
-            groups.remove(key);
+        List<E> elements;
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            elements = (List<E>) collection;
+        } else {
+            elements = (List<E>) Arrays.asList(collection.toArray());
+        }
+        int threshold = Math.max(MIN_ELEMENTS_PER_PARALLEL_TASK, elements.size() / (parallelism * TASKS_PER_THREAD));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new ParallelGroupTask<E>(elements, properties, 0, elements.size(), threshold));
+        } finally {
+            pool.shutdown();
         }
-        return groups;
     }
 
+    /**
+     * Computes the aggregations for every group of elements with the same values of the group paths, without
+     * retaining the elements, so the elements may be streamed from any source.
+     */
+    public static <E> Map<GroupKey, Aggregates> aggregate(Iterable<E> elements, String[] groupPaths,
+            Aggregation... aggregations) {
+        return Grouping.aggregate(elements, groupPaths, aggregations);
+    }
+
+    public static <E> Map<GroupKey, Aggregates> aggregate(Iterable<E> elements, String groupPath,
+            Aggregation... aggregations) {
+        return Grouping.aggregate(elements, new String[] { groupPath }, aggregations);
+    }
+
+    public static <E> Map<GroupKey, List<E>> duplicates(Collection<E> collection, String... properties) {
+        return Grouping.duplicates(collection, properties);
+    }
+
+    /**
+     * Returns the elements which are the only ones with their values of the given properties, in the order of the
+     * collection.
+     */
     @SuppressWarnings("unchecked")
     public static <E, T extends Collection<E>> T uniques(T collection, String... properties) {
-        Map<GroupKey, List<E>> groups = group(collection, properties);
-
         Collection<E> uniques = createNewInstanceOfCollection(collection.getClass());
+        Grouping.uniques(collection, uniques, properties);
+        return (T) uniques;
+    }
 
-        for (Entry<GroupKey, List<E>> entry : groups.entrySet()) {
-            if (entry.getValue().size() == 1) {
-                uniques.addAll(entry.getValue());
-            }
+    public static <T> List<T> sort(Iterable<T> elements, String... fieldPaths) {
+        return Sorting.sort(elements, ascending(fieldPaths));
+    }
+
+    public static <T> List<T> sort(Iterable<T> elements, SortOrder... orders) {
+        return Sorting.sort(elements, orders);
+    }
+
+    /**
+     * Returns the first k elements in the given order, without sorting all the elements.
+     */
+    public static <T> List<T> topK(Iterable<T> elements, int k, String... fieldPaths) {
+        return Sorting.topK(elements, k, ascending(fieldPaths));
+    }
+
+    /**
+     * Returns the first k elements in the given order, without sorting all the elements. For the k highest values
+     * use the descending order.
+     */
+    public static <T> List<T> topK(Iterable<T> elements, int k, SortOrder... orders) {
+        return Sorting.topK(elements, k, orders);
+    }
+
+    private static SortOrder[] ascending(String... fieldPaths) {
+        SortOrder[] orders = new SortOrder[fieldPaths.length];
+        for (int i = 0; i < fieldPaths.length; i++) {
+            orders[i] = SortOrder.ascending(fieldPaths[i]);
         }
-        return (T) uniques;
+        return orders;
     }
 
     public static <T extends Collection<?>> boolean containsAny(T collectionA, T collectionB) {
@@ -233,6 +490,34 @@ public final class Collections {
         return linkedList;
     }
 
+    public static IntArrayList newIntList() {
+        return new IntArrayList();
+    }
+
+    public static IntArrayList newIntList(int... elements) {
+        IntArrayList list = new IntArrayList(elements.length);
+        list.addAll(elements);
+        return list;
+    }
+
+    public static IntArrayList newIntListWithCapacity(int initialArraySize) {
+        return new IntArrayList(initialArraySize);
+    }
+
+    public static LongArrayList newLongList() {
+        return new LongArrayList();
+    }
+
+    public static LongArrayList newLongList(long... elements) {
+        LongArrayList list = new LongArrayList(elements.length);
+        list.addAll(elements);
+        return list;
+    }
+
+    public static LongArrayList newLongListWithCapacity(int initialArraySize) {
+        return new LongArrayList(initialArraySize);
+    }
+
     // Sets
 
     public static <E> HashSet<E> newHashSet() {
@@ -250,6 +535,20 @@ public final class Collections {
         return new HashSet<E>(initialCapacity);
     }
 
+    public static LongHashSet newLongSet() {
+        return new LongHashSet();
+    }
+
+    public static LongHashSet newLongSet(long... elements) {
+        LongHashSet set = new LongHashSet(elements.length);
+        set.addAll(elements);
+        return set;
+    }
+
+    public static LongHashSet newLongSetWithInitialCapacity(int initialCapacity) {
+        return new LongHashSet(initialCapacity);
+    }
+
     public static <E> LinkedHashSet<E> newLinkedHashSet() {
         return new LinkedHashSet<E>();
     }
@@ -0,0 +1,50 @@
+package pl.jsolve.sweetener.collection;
+
+import pl.jsolve.sweetener.core.FieldPath;
+import pl.jsolve.sweetener.core.Reflections;
+
+/**
+ * Reads the values of a fixed list of field paths. The paths are resolved again only when the class of the read
+ * objects changes, so reading a homogeneous collection resolves them once. Instances are not thread safe.
+ */
+class FieldValuesReader {
+
+    private final String[] fieldPaths;
+    private final FieldPath[] resolvedFieldPaths;
+    private Class<?> resolvedClass;
+
+    FieldValuesReader(String... fieldPaths) {
+        this.fieldPaths = fieldPaths;
+        this.resolvedFieldPaths = new FieldPath[fieldPaths.length];
+    }
+
+    int size() {
+        return fieldPaths.length;
+    }
+
+    String getFieldPath(int index) {
+        return fieldPaths[index];
+    }
+
+    FieldPath[] resolve(Class<?> clazz) {
+        if (clazz != resolvedClass) {
+            for (int i = 0; i < fieldPaths.length; i++) {
+                resolvedFieldPaths[i] = Reflections.getFieldPath(clazz, fieldPaths[i]);
+            }
+            resolvedClass = clazz;
+        }
+        return resolvedFieldPaths;
+    }
+
+    Object[] read(Object object) {
+        return read(object, new Object[fieldPaths.length]);
+    }
+
+    Object[] read(Object object, Object[] values) {
+        FieldPath[] fieldPaths = resolve(object.getClass());
+        for (int i = 0; i < fieldPaths.length; i++) {
+            values[i] = fieldPaths[i].getValue(object);
+        }
+        return values;
+    }
+}
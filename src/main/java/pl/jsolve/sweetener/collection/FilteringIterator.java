@@ -0,0 +1,51 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import pl.jsolve.sweetener.core.Condition;
+
+/**
+ * Iterator which pulls elements from the source only when they are requested and skips the ones not satisfying the
+ * condition. At most one element is read ahead.
+ */
+class FilteringIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> source;
+    private final Condition<Object> condition;
+    private T next;
+    private boolean nextFound;
+
+    FilteringIterator(Iterator<T> source, Condition<Object> condition) {
+        this.source = source;
+        this.condition = condition;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!nextFound && source.hasNext()) {
+            T element = source.next();
+            if (condition.isSatisfied(element)) {
+                next = element;
+                nextFound = true;
+            }
+        }
+        return nextFound;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        nextFound = false;
+        return element;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Removing elements of filtered source is not supported");
+    }
+}
@@ -0,0 +1,308 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import pl.jsolve.sweetener.core.FieldPath;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Grouping of elements by the values of their fields. Every element is given the number of its group with a single
+ * hash lookup. When the group is determined by one primitive field, or two primitive fields not wider than an int,
+ * the values are packed into a long looked up in a primitive hash table, so no key is allocated per element; the
+ * {@link GroupKey} is created once per group. Duplicates and uniques count the elements of every group first and only
+ * build the lists they return. Aggregations keep only running statistics per group.
+ */
+final class Grouping {
+
+    private Grouping() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    static <E> Map<GroupKey, List<E>> group(Iterable<E> elements, String... properties) {
+        GroupIndex index = new GroupIndex(properties);
+        List<List<E>> groups = Collections.newArrayList();
+        for (E element : elements) {
+            int group = index.groupOf(element);
+            if (group == groups.size()) {
+                groups.add(Collections.<E> newArrayList());
+            }
+            groups.get(group).add(element);
+        }
+        Map<GroupKey, List<E>> result = Maps.newHashMap();
+        for (int group = 0; group < groups.size(); group++) {
+            result.put(index.keyOf(group), groups.get(group));
+        }
+        return result;
+    }
+
+    static <E> Map<GroupKey, List<E>> duplicates(Collection<E> collection, String... properties) {
+        GroupIndex index = new GroupIndex(properties);
+        int[] groupsOfElements = assignGroups(collection, index);
+        List<List<E>> groups = Collections.newArrayListWithCapacity(index.size());
+        for (int group = 0; group < index.size(); group++) {
+            groups.add(null);
+        }
+        Map<GroupKey, List<E>> result = Maps.newHashMap();
+        int i = 0;
+        for (E element : collection) {
+            int group = groupsOfElements[i++];
+            if (index.sizeOf(group) > 1) {
+                if (groups.get(group) == null) {
+                    groups.set(group, Collections.<E> newArrayListWithCapacity(index.sizeOf(group)));
+                    result.put(index.keyOf(group), groups.get(group));
+                }
+                groups.get(group).add(element);
+            }
+        }
+        return result;
+    }
+
+    static <E> void uniques(Collection<E> collection, Collection<E> result, String... properties) {
+        GroupIndex index = new GroupIndex(properties);
+        int[] groupsOfElements = assignGroups(collection, index);
+        int i = 0;
+        for (E element : collection) {
+            if (index.sizeOf(groupsOfElements[i++]) == 1) {
+                result.add(element);
+            }
+        }
+    }
+
+    /**
+     * Keeps only the running statistics of every field of every group: the count, sum, minimum, maximum, and the mean
+     * and sum of squared differences updated with Welford's method, so no element is retained.
+     */
+    static <E> Map<GroupKey, Aggregates> aggregate(Iterable<E> elements, String[] groupPaths,
+            Aggregation... aggregations) {
+        List<String> fieldPaths = Collections.newArrayList();
+        int[] fieldsOfAggregations = new int[aggregations.length];
+        boolean[] numericFields = new boolean[aggregations.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            String fieldPath = aggregations[i].getFieldPath();
+            if (fieldPath != null && !fieldPaths.contains(fieldPath)) {
+                fieldPaths.add(fieldPath);
+            }
+            fieldsOfAggregations[i] = fieldPath == null ? -1 : fieldPaths.indexOf(fieldPath);
+            if (fieldPath != null && aggregations[i].getFunction() != Aggregation.Function.COUNT) {
+                numericFields[fieldsOfAggregations[i]] = true;
+            }
+        }
+        FieldValuesReader reader = new FieldValuesReader(fieldPaths.toArray(new String[fieldPaths.size()]));
+        GroupIndex index = new GroupIndex(groupPaths);
+        List<RunningStatistics[]> groups = Collections.newArrayList();
+        for (E element : elements) {
+            int group = index.groupOf(element);
+            if (group == groups.size()) {
+                RunningStatistics[] statistics = new RunningStatistics[reader.size()];
+                for (int i = 0; i < statistics.length; i++) {
+                    statistics[i] = new RunningStatistics();
+                }
+                groups.add(statistics);
+            }
+            RunningStatistics[] statistics = groups.get(group);
+            FieldPath[] resolvedFieldPaths = reader.resolve(element.getClass());
+            for (int i = 0; i < resolvedFieldPaths.length; i++) {
+                FieldPath fieldPath = resolvedFieldPaths[i];
+                if (fieldPath.isNumericPrimitive()) {
+                    statistics[i].add(fieldPath.getDoubleValue(element));
+                } else {
+                    Object value = fieldPath.getValue(element);
+                    if (value instanceof Number) {
+                        statistics[i].add(((Number) value).doubleValue());
+                    } else if (value != null && !numericFields[i]) {
+                        // only counted
+                        statistics[i].add(0.0);
+                    } else if (value != null) {
+                        throw new InvalidArgumentException("The field " + reader.getFieldPath(i) + " is not a number");
+                    }
+                }
+            }
+        }
+
+        Map<GroupKey, Aggregates> result = Maps.newHashMap();
+        for (int group = 0; group < groups.size(); group++) {
+            RunningStatistics[] statistics = groups.get(group);
+            double[] values = new double[aggregations.length];
+            for (int i = 0; i < aggregations.length; i++) {
+                if (fieldsOfAggregations[i] == -1) {
+                    values[i] = index.sizeOf(group);
+                } else {
+                    values[i] = statistics[fieldsOfAggregations[i]].get(aggregations[i].getFunction());
+                }
+            }
+            result.put(index.keyOf(group), new Aggregates(aggregations, values, index.sizeOf(group)));
+        }
+        return result;
+    }
+
+    private static int[] assignGroups(Collection<?> collection, GroupIndex index) {
+        int[] groupsOfElements = new int[collection.size()];
+        int i = 0;
+        for (Object element : collection) {
+            groupsOfElements[i++] = index.groupOf(element);
+        }
+        return groupsOfElements;
+    }
+
+    private static class RunningStatistics {
+
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double mean;
+        private double squaredDifferences;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            double difference = value - mean;
+            mean += difference / count;
+            squaredDifferences += difference * (value - mean);
+        }
+
+        double get(Aggregation.Function function) {
+            switch (function) {
+            case COUNT:
+                return count;
+            case SUM:
+                return sum;
+            case AVG:
+                return count == 0 ? Double.NaN : mean;
+            case MIN:
+                return count == 0 ? Double.NaN : min;
+            case MAX:
+                return count == 0 ? Double.NaN : max;
+            default:
+                return count == 0 ? Double.NaN : squaredDifferences / count;
+            }
+        }
+    }
+
+    /**
+     * Numbers the groups in the order they are found and counts their elements.
+     */
+    private static class GroupIndex {
+
+        private final FieldValuesReader reader;
+        private final List<GroupKey> keys = Collections.newArrayList();
+        private final Map<GroupKey, Integer> groupsByKey = Maps.newHashMap();
+        private LongIntHashMap groupsByPackedKey;
+        private Class<?>[] packedTypes;
+        private int[] sizes = new int[16];
+
+        GroupIndex(String... properties) {
+            this.reader = new FieldValuesReader(properties);
+        }
+
+        int size() {
+            return keys.size();
+        }
+
+        GroupKey keyOf(int group) {
+            return keys.get(group);
+        }
+
+        int sizeOf(int group) {
+            return sizes[group];
+        }
+
+        int groupOf(Object element) {
+            FieldPath[] fieldPaths = reader.resolve(element.getClass());
+            if (keys.isEmpty() && packedTypes == null) {
+                packedTypes = getPackableTypes(fieldPaths);
+                if (packedTypes != null) {
+                    groupsByPackedKey = new LongIntHashMap();
+                }
+            } else if (groupsByPackedKey != null && !Arrays.equals(packedTypes, getTypes(fieldPaths))) {
+                unpack();
+            }
+            int group = groupsByPackedKey != null ? packedGroupOf(element, fieldPaths) : groupOf(element,
+                    fieldPaths);
+            if (group == sizes.length) {
+                sizes = Arrays.copyOf(sizes, sizes.length << 1);
+            }
+            sizes[group]++;
+            return group;
+        }
+
+        private int packedGroupOf(Object element, FieldPath[] fieldPaths) {
+            long packedKey;
+            if (fieldPaths.length == 1) {
+                packedKey = pack(fieldPaths[0], element);
+            } else {
+                packedKey = pack(fieldPaths[0], element) << 32 | pack(fieldPaths[1], element) & 0xFFFFFFFFL;
+            }
+            int group = groupsByPackedKey.putIfAbsent(packedKey, keys.size());
+            if (group == LongIntHashMap.ABSENT) {
+                keys.add(new GroupKey(reader.read(element)));
+                return keys.size() - 1;
+            }
+            return group;
+        }
+
+        private int groupOf(Object element, FieldPath[] fieldPaths) {
+            Object[] values = new Object[fieldPaths.length];
+            for (int i = 0; i < fieldPaths.length; i++) {
+                values[i] = fieldPaths[i].getValue(element);
+            }
+            GroupKey key = new GroupKey(values);
+            Integer group = groupsByKey.get(key);
+            if (group == null) {
+                group = keys.size();
+                groupsByKey.put(key, group);
+                keys.add(key);
+            }
+            return group;
+        }
+
+        // elements of another class have different fields, so keys found so far are moved to the map of group keys
+        private void unpack() {
+            for (int group = 0; group < keys.size(); group++) {
+                groupsByKey.put(keys.get(group), group);
+            }
+            groupsByPackedKey = null;
+        }
+
+        // packs the value into the lower 32 bits, unless it is the only long or double value of the key; primitive
+        // values are read without boxing, booleans are boxed to the cached constants
+        private static long pack(FieldPath fieldPath, Object element) {
+            Class<?> type = fieldPath.getType();
+            if (type == double.class) {
+                return Double.doubleToLongBits(fieldPath.getDoubleValue(element));
+            } else if (type == float.class) {
+                return Float.floatToIntBits((float) fieldPath.getDoubleValue(element));
+            } else if (type == boolean.class) {
+                return (Boolean) fieldPath.getValue(element) ? 1 : 0;
+            }
+            return fieldPath.getLongValue(element);
+        }
+
+        private static Class<?>[] getPackableTypes(FieldPath[] fieldPaths) {
+            Class<?>[] types = getTypes(fieldPaths);
+            if (types.length == 1 && types[0].isPrimitive()) {
+                return types;
+            } else if (types.length == 2 && isIntSized(types[0]) && isIntSized(types[1])) {
+                return types;
+            }
+            return null;
+        }
+
+        private static boolean isIntSized(Class<?> type) {
+            return type.isPrimitive() && type != long.class && type != double.class;
+        }
+
+        private static Class<?>[] getTypes(FieldPath[] fieldPaths) {
+            Class<?>[] types = new Class<?>[fieldPaths.length];
+            for (int i = 0; i < fieldPaths.length; i++) {
+                types[i] = fieldPaths[i].getType();
+            }
+            return types;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.List;
+import java.util.Map;
+
+import pl.jsolve.sweetener.criteria.Restriction;
+import pl.jsolve.sweetener.criteria.restriction.Equals;
+import pl.jsolve.sweetener.criteria.restriction.In;
+
+class HashIndex extends Index {
+
+    private final Map<Object, LongHashSet> ids = Maps.newHashMap();
+
+    HashIndex(String fieldName) {
+        super(fieldName);
+    }
+
+    @Override
+    IndexType getType() {
+        return IndexType.HASH;
+    }
+
+    @Override
+    void addKey(long id, Object key) {
+        addId(ids, key, id);
+    }
+
+    @Override
+    void removeKey(long id, Object key) {
+        removeId(ids, key, id);
+    }
+
+    @Override
+    void clearKeys() {
+        ids.clear();
+    }
+
+    @Override
+    LongHashSet lookup(Restriction restriction) {
+        if (restriction instanceof Equals) {
+            Equals equals = (Equals) restriction;
+            if (equals.getIgnoreCase() && equals.getValue() instanceof String) {
+                return null;
+            }
+            return equals.getValue() == null ? new LongHashSet() : idsOf(equals.getValue());
+        }
+        if (restriction instanceof In) {
+            List<LongHashSet> idsOfValues = Collections.newArrayList();
+            for (Object value : ((In) restriction).getValue()) {
+                idsOfValues.add(idsOf(value));
+            }
+            return union(idsOfValues);
+        }
+        return null;
+    }
+
+    private LongHashSet idsOf(Object key) {
+        LongHashSet idsOfKey = ids.get(key);
+        return idsOfKey == null ? new LongHashSet() : idsOfKey;
+    }
+}
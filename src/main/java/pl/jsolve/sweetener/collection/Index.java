@@ -0,0 +1,82 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Map;
+
+import pl.jsolve.sweetener.core.Reflections;
+import pl.jsolve.sweetener.criteria.Restriction;
+
+/**
+ * Index of the elements of {@link IndexedCollection} by the value of a single field path. Elements are identified by
+ * the ids assigned by the collection. The key of every indexed element is remembered, so the element can be removed
+ * even when its field has been changed in the meantime.
+ */
+abstract class Index {
+
+    private final String fieldName;
+    private final Map<Long, Object> keys = Maps.newHashMap();
+
+    Index(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    String getFieldName() {
+        return fieldName;
+    }
+
+    abstract IndexType getType();
+
+    void add(long id, Object element) {
+        Object key = Reflections.getFieldValue(element, fieldName);
+        addKey(id, key);
+        keys.put(id, key);
+    }
+
+    void remove(long id) {
+        removeKey(id, keys.remove(id));
+    }
+
+    void clear() {
+        keys.clear();
+        clearKeys();
+    }
+
+    abstract void addKey(long id, Object key);
+
+    abstract void removeKey(long id, Object key);
+
+    abstract void clearKeys();
+
+    /**
+     * Returns ids of all elements which may satisfy the restriction or null when the index cannot be used for it.
+     */
+    abstract LongHashSet lookup(Restriction restriction);
+
+    static <K> void addId(Map<K, LongHashSet> ids, K key, long id) {
+        LongHashSet idsOfKey = ids.get(key);
+        if (idsOfKey == null) {
+            idsOfKey = new LongHashSet();
+            ids.put(key, idsOfKey);
+        }
+        idsOfKey.add(id);
+    }
+
+    static <K> void removeId(Map<K, LongHashSet> ids, K key, long id) {
+        LongHashSet idsOfKey = ids.get(key);
+        if (idsOfKey != null) {
+            idsOfKey.remove(id);
+            if (idsOfKey.isEmpty()) {
+                ids.remove(key);
+            }
+        }
+    }
+
+    static LongHashSet union(Iterable<LongHashSet> sets) {
+        LongHashSet result = new LongHashSet();
+        for (LongHashSet set : sets) {
+            for (long id : set.toArray()) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,6 @@
+package pl.jsolve.sweetener.collection;
+
+public enum IndexType {
+
+    HASH, SORTED
+}
@@ -0,0 +1,167 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import pl.jsolve.sweetener.core.Condition;
+import pl.jsolve.sweetener.criteria.Criteria;
+import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.Restriction;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Collection which can be queried by {@link Criteria} with help of indexes declared on field paths. Hash indexes serve
+ * Equals and In restrictions, sorted indexes serve Greater, GreaterOrEquals, Less, LessOrEquals and Between restrictions
+ * for numbers and Before and After restrictions for dates.
+ * <p>
+ * A query looks up every top-level restriction which can be served by an index and takes the smallest candidate set.
+ * Only the remaining restrictions are evaluated for the candidates. Without a usable index all elements are scanned.
+ * Results keep the order in which elements were added. Indexed fields must not be changed while an element is in the
+ * collection, just like fields used by hashCode of an element of a HashSet.
+ */
+public class IndexedCollection<T> extends AbstractCollection<T> {
+
+    private final Map<Long, T> elements = Maps.newLinkedHashMap();
+    private final Map<String, Index> indexes = Maps.newLinkedHashMap();
+    private long nextId;
+
+    public IndexedCollection() {
+    }
+
+    public IndexedCollection(Collection<? extends T> elements) {
+        addAll(elements);
+    }
+
+    public IndexedCollection<T> addHashIndex(String fieldName) {
+        return addIndex(new HashIndex(fieldName));
+    }
+
+    public IndexedCollection<T> addSortedIndex(String fieldName) {
+        return addIndex(new SortedIndex(fieldName));
+    }
+
+    private IndexedCollection<T> addIndex(Index index) {
+        if (indexes.containsKey(index.getFieldName())) {
+            throw new InvalidArgumentException("The field " + index.getFieldName() + " is already indexed");
+        }
+        for (Entry<Long, T> entry : elements.entrySet()) {
+            index.add(entry.getKey(), entry.getValue());
+        }
+        indexes.put(index.getFieldName(), index);
+        return this;
+    }
+
+    @Override
+    public boolean add(T element) {
+        long id = nextId++;
+        List<Index> updatedIndexes = Collections.newArrayList();
+        try {
+            for (Index index : indexes.values()) {
+                index.add(id, element);
+                updatedIndexes.add(index);
+            }
+        } catch (RuntimeException ex) {
+            // the element is not added, so it must not stay in any index
+            for (Index index : updatedIndexes) {
+                index.remove(id);
+            }
+            throw ex;
+        }
+        elements.put(id, element);
+        return true;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<Entry<Long, T>> iterator = elements.entrySet().iterator();
+        return new Iterator<T>() {
+
+            private Entry<Long, T> current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                current = iterator.next();
+                return current.getValue();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                for (Index index : indexes.values()) {
+                    index.remove(current.getKey());
+                }
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        for (Index index : indexes.values()) {
+            index.clear();
+        }
+    }
+
+    public QueryResult<T> query(Criteria criteria) {
+        List<Restriction> restrictions = criteria.getSortedRestrictions();
+        Restriction indexedRestriction = null;
+        Index usedIndex = null;
+        LongHashSet candidates = null;
+        for (Restriction restriction : restrictions) {
+            if (!(restriction instanceof FieldRestriction)) {
+                continue;
+            }
+            Index index = indexes.get(((FieldRestriction) restriction).getFieldName());
+            if (index == null) {
+                continue;
+            }
+            LongHashSet ids = index.lookup(restriction);
+            if (ids != null && (candidates == null || ids.size() < candidates.size())) {
+                candidates = ids;
+                usedIndex = index;
+                indexedRestriction = restriction;
+            }
+        }
+
+        if (candidates == null) {
+            Condition<Object> condition = Collections.asCondition(restrictions);
+            List<T> result = Collections.newArrayList();
+            for (T element : elements.values()) {
+                if (condition.isSatisfied(element)) {
+                    result.add(element);
+                }
+            }
+            return new QueryResult<T>(result, QueryPlan.fullScan(elements.size()));
+        }
+
+        List<Restriction> remainingRestrictions = Collections.newArrayList(restrictions);
+        remainingRestrictions.remove(indexedRestriction);
+        Condition<Object> condition = Collections.asCondition(remainingRestrictions);
+        long[] ids = candidates.toArray();
+        Arrays.sort(ids);
+        List<T> result = Collections.newArrayList();
+        for (long id : ids) {
+            T element = elements.get(id);
+            if (condition.isSatisfied(element)) {
+                result.add(element);
+            }
+        }
+        return new QueryResult<T>(result, new QueryPlan(usedIndex.getFieldName(), usedIndex.getType(),
+                indexedRestriction, ids.length));
+    }
+}
@@ -0,0 +1,203 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Growable list of primitive ints kept in a single int array, so every element takes four bytes instead of a
+ * reference to a boxed value. {@link #asList()} exposes it as a {@code java.util.List}.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new InvalidArgumentException("The initial capacity cannot be negative");
+        }
+        elements = new int[initialCapacity];
+    }
+
+    public void add(int element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    public void add(int index, int element) {
+        checkPositionIndex(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    public void addAll(int... elements) {
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    public int get(int index) {
+        checkElementIndex(index);
+        return elements[index];
+    }
+
+    public int set(int index, int element) {
+        checkElementIndex(index);
+        int previousElement = elements[index];
+        elements[index] = element;
+        return previousElement;
+    }
+
+    public int removeAt(int index) {
+        checkElementIndex(index);
+        int removedElement = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    public int indexOf(int element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int element) {
+        return indexOf(element) != -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a view of this list; changes of either are visible in the other. Elements are boxed when they are read
+     * through the view.
+     */
+    public List<Integer> asList() {
+        return new IntListView();
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + elements[i];
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        IntArrayList other = (IntArrayList) obj;
+        if (size != other.size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private class IntListView extends AbstractList<Integer> implements RandomAccess {
+
+        @Override
+        public Integer get(int index) {
+            return IntArrayList.this.get(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return IntArrayList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            IntArrayList.this.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Integer remove(int index) {
+            modCount++;
+            return removeAt(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && IntArrayList.this.contains((Integer) o);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import pl.jsolve.sweetener.exception.PaginationException;
+
+/**
+ * Reads the pages from an iterator, which can only go forward: the elements of skipped pages are dropped, so visiting
+ * the pages in order reads every element once. Pages which have already been read can be visited again only while
+ * they are cached by the chopped elements, unless the supplier reads an iterable, which is then iterated again from
+ * the beginning.
+ */
+class IteratorPageSupplier<T> implements PageSupplier<T> {
+
+    private final Iterable<T> source;
+    private Iterator<T> elements;
+    private final int resultsPerPage;
+    private int nextPage;
+
+    IteratorPageSupplier(Iterator<T> elements, int resultsPerPage) {
+        this.source = null;
+        this.elements = elements;
+        this.resultsPerPage = resultsPerPage;
+    }
+
+    IteratorPageSupplier(Iterable<T> source, int resultsPerPage) {
+        this.source = source;
+        this.elements = source.iterator();
+        this.resultsPerPage = resultsPerPage;
+    }
+
+    @Override
+    public Collection<T> getElementsOfPage(int page) {
+        if (page < nextPage) {
+            if (source == null) {
+                throw new PaginationException("The page " + page + " has already been read from the source");
+            }
+            elements = source.iterator();
+            nextPage = 0;
+        }
+        for (; nextPage < page; nextPage++) {
+            for (int i = 0; i < resultsPerPage && elements.hasNext(); i++) {
+                elements.next();
+            }
+        }
+        List<T> elementsOfPage = Collections.newArrayListWithCapacity(resultsPerPage);
+        while (elementsOfPage.size() < resultsPerPage && elements.hasNext()) {
+            elementsOfPage.add(elements.next());
+        }
+        nextPage++;
+        return elementsOfPage;
+    }
+}
@@ -0,0 +1,155 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.RandomAccess;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Pagination which continues from a {@link PageCursor} instead of skipping an offset. Sorted lists with random access
+ * are searched by halves, navigable sets and maps are asked for their tails, and other collections are scanned from
+ * the beginning up to the end of the page. Keys of sorted collections may repeat, so the cursor counts the elements
+ * with its key which have already been returned. Pages of navigable collections do not know their number, which is
+ * -1.
+ */
+final class KeysetPaging {
+
+    private static final int UNKNOWN_PAGE = -1;
+
+    private KeysetPaging() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    static <T> Pagination<T> pageAfter(Collection<T> sortedCollection, String keyPath, PageCursor cursor, int limit) {
+        checkLimit(limit);
+        FieldValuesReader reader = new FieldValuesReader(keyPath);
+        if (sortedCollection instanceof List && sortedCollection instanceof RandomAccess) {
+            return pageAfter((List<T>) sortedCollection, reader, cursor, limit);
+        }
+
+        List<T> elementsOfPage = Collections.newArrayListWithCapacity(limit);
+        int skipped = 0;
+        int skippedWithLastKey = 0;
+        Object keyOfLastElement = null;
+        int elementsWithKeyOfLastElement = 0;
+        Iterator<T> iterator = sortedCollection.iterator();
+        while (iterator.hasNext() && elementsOfPage.size() < limit) {
+            T element = iterator.next();
+            Object key = keyOf(element, reader);
+            if (skipped + elementsOfPage.size() > 0 && Sorting.compareKeys(key, keyOfLastElement) == 0) {
+                elementsWithKeyOfLastElement++;
+            } else {
+                keyOfLastElement = key;
+                elementsWithKeyOfLastElement = 1;
+            }
+            if (cursor != null && isBefore(key, cursor, skippedWithLastKey)) {
+                skipped++;
+                if (Sorting.compareKeys(key, cursor.getLastKey()) == 0) {
+                    skippedWithLastKey++;
+                }
+            } else {
+                elementsOfPage.add(element);
+            }
+        }
+        PageCursor nextCursor = iterator.hasNext() && !elementsOfPage.isEmpty() ? new PageCursor(keyOfLastElement,
+                elementsWithKeyOfLastElement) : null;
+        return new Pagination<T>(pageOf(skipped, limit), limit, sortedCollection.size(), elementsOfPage, nextCursor);
+    }
+
+    private static <T> Pagination<T> pageAfter(List<T> sortedList, FieldValuesReader reader, PageCursor cursor,
+            int limit) {
+        int from = 0;
+        if (cursor != null) {
+            int firstWithLastKey = indexOf(sortedList, reader, cursor.getLastKey(), false);
+            int afterLastKey = indexOf(sortedList, reader, cursor.getLastKey(), true);
+            from = (int) Math.min((long) firstWithLastKey + cursor.getElementsWithLastKey(), afterLastKey);
+        }
+        int to = (int) Math.min((long) from + limit, sortedList.size());
+        PageCursor nextCursor = null;
+        if (to < sortedList.size() && to > from) {
+            Object keyOfLastElement = keyOf(sortedList.get(to - 1), reader);
+            nextCursor = new PageCursor(keyOfLastElement, to - indexOf(sortedList, reader, keyOfLastElement, false));
+        }
+        return new Pagination<T>(pageOf(from, limit), limit, sortedList.size(),
+                java.util.Collections.unmodifiableList(sortedList.subList(from, to)), nextCursor);
+    }
+
+    static <T> Pagination<T> pageAfter(NavigableSet<T> sortedSet, PageCursor cursor, int limit) {
+        checkLimit(limit);
+        NavigableSet<T> tail = sortedSet;
+        if (cursor != null) {
+            tail = sortedSet.tailSet(KeysetPaging.<T> lastKeyOf(cursor), false);
+        }
+        List<T> elementsOfPage = Collections.newArrayListWithCapacity(limit);
+        Iterator<T> iterator = tail.iterator();
+        while (iterator.hasNext() && elementsOfPage.size() < limit) {
+            elementsOfPage.add(iterator.next());
+        }
+        PageCursor nextCursor = iterator.hasNext() ? PageCursor.after(elementsOfPage.get(elementsOfPage.size() - 1))
+                : null;
+        return new Pagination<T>(UNKNOWN_PAGE, limit, sortedSet.size(), elementsOfPage, nextCursor);
+    }
+
+    static <K, V> Pagination<V> pageAfter(NavigableMap<K, V> sortedMap, PageCursor cursor, int limit) {
+        checkLimit(limit);
+        NavigableMap<K, V> tail = sortedMap;
+        if (cursor != null) {
+            tail = sortedMap.tailMap(KeysetPaging.<K> lastKeyOf(cursor), false);
+        }
+        List<V> elementsOfPage = Collections.newArrayListWithCapacity(limit);
+        K keyOfLastElement = null;
+        Iterator<Map.Entry<K, V>> iterator = tail.entrySet().iterator();
+        while (iterator.hasNext() && elementsOfPage.size() < limit) {
+            Map.Entry<K, V> entry = iterator.next();
+            elementsOfPage.add(entry.getValue());
+            keyOfLastElement = entry.getKey();
+        }
+        PageCursor nextCursor = iterator.hasNext() ? PageCursor.after(keyOfLastElement) : null;
+        return new Pagination<V>(UNKNOWN_PAGE, limit, sortedMap.size(), elementsOfPage, nextCursor);
+    }
+
+    private static boolean isBefore(Object key, PageCursor cursor, int skippedWithLastKey) {
+        int result = Sorting.compareKeys(key, cursor.getLastKey());
+        return result < 0 || result == 0 && skippedWithLastKey < cursor.getElementsWithLastKey();
+    }
+
+    // index of the first element with the key greater than (or equal to, if not after) the given one
+    private static int indexOf(List<?> sortedList, FieldValuesReader reader, Object key, boolean after) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = Sorting.compareKeys(keyOf(sortedList.get(middle), reader), key);
+            if (result < 0 || after && result == 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K lastKeyOf(PageCursor cursor) {
+        return (K) cursor.getLastKey();
+    }
+
+    private static Object keyOf(Object element, FieldValuesReader reader) {
+        return reader.resolve(element.getClass())[0].getValue(element);
+    }
+
+    private static int pageOf(int numberOfPreviousElements, int limit) {
+        return (numberOfPreviousElements + limit - 1) / limit;
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1) {
+            throw new InvalidArgumentException("The limit has to be greater than zero");
+        }
+    }
+}
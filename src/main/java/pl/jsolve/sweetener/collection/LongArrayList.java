@@ -0,0 +1,203 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Growable list of primitive longs kept in a single long array, so every element takes eight bytes instead of a
+ * reference to a boxed value. {@link #asList()} exposes it as a {@code java.util.List}.
+ */
+public class LongArrayList {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new InvalidArgumentException("The initial capacity cannot be negative");
+        }
+        elements = new long[initialCapacity];
+    }
+
+    public void add(long element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    public void add(int index, long element) {
+        checkPositionIndex(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    public void addAll(long... elements) {
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    public long get(int index) {
+        checkElementIndex(index);
+        return elements[index];
+    }
+
+    public long set(int index, long element) {
+        checkElementIndex(index);
+        long previousElement = elements[index];
+        elements[index] = element;
+        return previousElement;
+    }
+
+    public long removeAt(int index) {
+        checkElementIndex(index);
+        long removedElement = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    public int indexOf(long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long element) {
+        return indexOf(element) != -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a view of this list; changes of either are visible in the other. Elements are boxed when they are read
+     * through the view.
+     */
+    public List<Long> asList() {
+        return new LongListView();
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + (int) (elements[i] ^ (elements[i] >>> 32));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        LongArrayList other = (LongArrayList) obj;
+        if (size != other.size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private class LongListView extends AbstractList<Long> implements RandomAccess {
+
+        @Override
+        public Long get(int index) {
+            return LongArrayList.this.get(index);
+        }
+
+        @Override
+        public Long set(int index, Long element) {
+            return LongArrayList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Long element) {
+            LongArrayList.this.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Long remove(int index) {
+            modCount++;
+            return removeAt(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long && LongArrayList.this.contains((Long) o);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
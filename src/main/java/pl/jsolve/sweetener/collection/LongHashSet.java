@@ -0,0 +1,295 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Set of primitive longs based on open addressing with linear probing. Values are kept in a single long array without
+ * boxing. Zero marks a free slot, so the zero value itself is tracked by a separate flag.
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongHashSet(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new InvalidArgumentException("The initial capacity cannot be negative");
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    public boolean add(long value) {
+        if (value == FREE) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = indexOf(value);
+        if (keys[index] == value) {
+            return false;
+        }
+        keys[index] = value;
+        if (++size >= resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean addAll(long... values) {
+        boolean changed = false;
+        for (long value : values) {
+            changed |= add(value);
+        }
+        return changed;
+    }
+
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+        return keys[indexOf(value)] == value;
+    }
+
+    public boolean remove(long value) {
+        if (value == FREE) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        if (keys[index] != value) {
+            return false;
+        }
+        keys[index] = FREE;
+        size--;
+        shiftKeysBack(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        containsZero = false;
+        size = 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        if (containsZero) {
+            result[i++] = FREE;
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of this set; changes of either are visible in the other. Values are boxed when they are read
+     * through the view. Its iterator does not support removal, as removing a value may move the following ones.
+     */
+    public Set<Long> asSet() {
+        return new LongSetView();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        if (containsZero) {
+            result += hashCodeOf(FREE);
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                result += hashCodeOf(key);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        LongHashSet other = (LongHashSet) obj;
+        if (size != other.size || containsZero != other.containsZero)
+            return false;
+        for (long key : keys) {
+            if (key != FREE && !other.contains(key))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return asSet().toString();
+    }
+
+    private static int hashCodeOf(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    private int indexOf(long value) {
+        int index = hash(value) & mask;
+        while (keys[index] != FREE && keys[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // Backward shift deletion keeps probe sequences unbroken without tombstones
+    private void shiftKeysBack(int freeIndex) {
+        int index = (freeIndex + 1) & mask;
+        while (keys[index] != FREE) {
+            int desiredIndex = hash(keys[index]) & mask;
+            if (((index - desiredIndex) & mask) >= ((index - freeIndex) & mask)) {
+                keys[freeIndex] = keys[index];
+                keys[index] = FREE;
+                freeIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != FREE) {
+                keys[indexOf(key)] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    private static int hash(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private class LongSetView extends AbstractSet<Long> {
+
+        @Override
+        public Iterator<Long> iterator() {
+            return new Iterator<Long>() {
+
+                private boolean zeroReturned = !containsZero;
+                private int index = nextIndex(0);
+
+                @Override
+                public boolean hasNext() {
+                    return !zeroReturned || index < keys.length;
+                }
+
+                @Override
+                public Long next() {
+                    if (!zeroReturned) {
+                        zeroReturned = true;
+                        return FREE;
+                    }
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    long key = keys[index];
+                    index = nextIndex(index + 1);
+                    return key;
+                }
+
+                private int nextIndex(int from) {
+                    int i = from;
+                    while (i < keys.length && keys[i] == FREE) {
+                        i++;
+                    }
+                    return i;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public boolean add(Long value) {
+            return LongHashSet.this.add(value);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long && LongHashSet.this.contains((Long) o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof Long && LongHashSet.this.remove((Long) o);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            boolean changed = false;
+            for (Object o : c) {
+                changed |= remove(o);
+            }
+            return changed;
+        }
+
+        @Override
+        public void clear() {
+            LongHashSet.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
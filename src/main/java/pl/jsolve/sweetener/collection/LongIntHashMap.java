@@ -0,0 +1,95 @@
+package pl.jsolve.sweetener.collection;
+
+/**
+ * Map of primitive longs to non-negative ints based on open addressing with linear probing, laid out like
+ * {@link LongHashSet}. Values are stored incremented by one, so zero marks a free slot and the zero key is tracked
+ * separately.
+ */
+class LongIntHashMap {
+
+    static final int ABSENT = -1;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private int valueOfZero = ABSENT;
+
+    LongIntHashMap() {
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    int get(long key) {
+        if (key == FREE) {
+            return valueOfZero;
+        }
+        return values[indexOf(key)] - 1;
+    }
+
+    /**
+     * Returns the value of the key, or puts the given value and returns {@link #ABSENT} if there was none, with a
+     * single lookup.
+     */
+    int putIfAbsent(long key, int value) {
+        if (key == FREE) {
+            int previousValue = valueOfZero;
+            if (previousValue == ABSENT) {
+                valueOfZero = value;
+                size++;
+            }
+            return previousValue;
+        }
+        int index = indexOf(key);
+        if (values[index] != 0) {
+            return values[index] - 1;
+        }
+        keys[index] = key;
+        values[index] = value + 1;
+        if (++size >= resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return ABSENT;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,310 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Map of primitive long keys to objects based on open addressing with linear probing. Keys are kept in a long array
+ * and values in a parallel object array, so no entry objects nor boxed keys are created. Zero marks a free slot, so
+ * the zero key and its value are kept aside. Null values are allowed.
+ */
+public class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsZeroKey;
+    private V zeroValue;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongObjectHashMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new InvalidArgumentException("The initial capacity cannot be negative");
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    public V get(long key) {
+        if (key == FREE) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? valueAt(index) : null;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return containsZeroKey;
+        }
+        return keys[indexOf(key)] == key;
+    }
+
+    public V put(long key, V value) {
+        V previousValue;
+        if (key == FREE) {
+            previousValue = zeroValue;
+            zeroValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return previousValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            previousValue = valueAt(index);
+            values[index] = value;
+            return previousValue;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size >= resizeThreshold) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    public V remove(long key) {
+        V removedValue;
+        if (key == FREE) {
+            removedValue = zeroValue;
+            if (containsZeroKey) {
+                containsZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return removedValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] != key) {
+            return null;
+        }
+        removedValue = valueAt(index);
+        keys[index] = FREE;
+        values[index] = null;
+        size--;
+        shiftEntriesBack(index);
+        return removedValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    public long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        if (containsZeroKey) {
+            result[i++] = FREE;
+        }
+        for (long key : keys) {
+            if (key != FREE) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of this map; changes of either are visible in the other. Keys are boxed when they are read
+     * through the view. Iterators of the view do not support removal, as removing an entry may move the following
+     * ones.
+     */
+    public Map<Long, V> asMap() {
+        return new LongObjectMapView();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // Backward shift deletion keeps probe sequences unbroken without tombstones
+    private void shiftEntriesBack(int freeIndex) {
+        int index = (freeIndex + 1) & mask;
+        while (keys[index] != FREE) {
+            int desiredIndex = hash(keys[index]) & mask;
+            if (((index - desiredIndex) & mask) >= ((index - freeIndex) & mask)) {
+                keys[freeIndex] = keys[index];
+                values[freeIndex] = values[index];
+                keys[index] = FREE;
+                values[index] = null;
+                freeIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private class LongObjectMapView extends AbstractMap<Long, V> {
+
+        @Override
+        public V get(Object key) {
+            return key instanceof Long ? LongObjectHashMap.this.get((Long) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Long && LongObjectHashMap.this.containsKey((Long) key);
+        }
+
+        @Override
+        public V put(Long key, V value) {
+            return LongObjectHashMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return key instanceof Long ? LongObjectHashMap.this.remove((Long) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            LongObjectHashMap.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<Long, V>> entrySet() {
+            return new AbstractSet<Map.Entry<Long, V>>() {
+
+                @Override
+                public Iterator<Map.Entry<Long, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<Long, V>> {
+
+        private boolean zeroKeyReturned = !containsZeroKey;
+        private int index = nextIndex(0);
+
+        @Override
+        public boolean hasNext() {
+            return !zeroKeyReturned || index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<Long, V> next() {
+            if (!zeroKeyReturned) {
+                zeroKeyReturned = true;
+                return new Entry(FREE);
+            }
+            if (index >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = new Entry(keys[index]);
+            index = nextIndex(index + 1);
+            return entry;
+        }
+
+        private int nextIndex(int from) {
+            int i = from;
+            while (i < keys.length && keys[i] == FREE) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class Entry extends AbstractMap.SimpleEntry<Long, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        Entry(long key) {
+            super(key, LongObjectHashMap.this.get(key));
+        }
+
+        @Override
+        public V setValue(V value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
@@ -43,6 +43,22 @@ public final class Maps {
         return new HashMap<K, V>(map);
     }
 
+    public static <V> LongObjectHashMap<V> newLongObjectMap() {
+        return new LongObjectHashMap<V>();
+    }
+
+    public static <V> LongObjectHashMap<V> newLongObjectMapWithInitialCapacity(int initialCapacity) {
+        return new LongObjectHashMap<V>(initialCapacity);
+    }
+
+    public static <K> ObjectIntHashMap<K> newObjectIntMap() {
+        return new ObjectIntHashMap<K>();
+    }
+
+    public static <K> ObjectIntHashMap<K> newObjectIntMapWithInitialCapacity(int initialCapacity) {
+        return new ObjectIntHashMap<K>(initialCapacity);
+    }
+
     public static <K, V> IdentityHashMap<K, V> newIdentityHashMap() {
         return new IdentityHashMap<K, V>();
     }
@@ -0,0 +1,306 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Map of objects to primitive ints based on open addressing with linear probing. Keys are kept in an object array and
+ * values in a parallel int array, so no entry objects nor boxed values are created. Null marks a free slot, so null
+ * keys are not allowed. Absent keys have the value zero, which makes the map handy for counting.
+ */
+public class ObjectIntHashMap<K> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private Object[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public ObjectIntHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ObjectIntHashMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new InvalidArgumentException("The initial capacity cannot be negative");
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    public int get(Object key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(Object key, int defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        int index = indexOf(key);
+        return keys[index] != null ? values[index] : defaultValue;
+    }
+
+    public boolean containsKey(Object key) {
+        return key != null && keys[indexOf(key)] != null;
+    }
+
+    /**
+     * Puts the value of the key and returns the previous one, or zero if there was none.
+     */
+    public int put(K key, int value) {
+        int index = indexOfNew(key);
+        int previousValue = values[index];
+        values[index] = value;
+        if (keys[index] == null) {
+            insertKey(index, key);
+        }
+        return previousValue;
+    }
+
+    /**
+     * Adds the increment to the value of the key, treating an absent key as zero, and returns the new value.
+     */
+    public int addTo(K key, int increment) {
+        int index = indexOfNew(key);
+        int value = values[index] += increment;
+        if (keys[index] == null) {
+            insertKey(index, key);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the key and returns its value, or zero if there was none.
+     */
+    public int remove(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int index = indexOf(key);
+        if (keys[index] == null) {
+            return 0;
+        }
+        int removedValue = values[index];
+        keys[index] = null;
+        values[index] = 0;
+        size--;
+        shiftEntriesBack(index);
+        return removedValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    /**
+     * Returns a view of this map; changes of either are visible in the other. Values are boxed when they are read
+     * through the view. Iterators of the view do not support removal, as removing an entry may move the following
+     * ones.
+     */
+    public Map<K, Integer> asMap() {
+        return new ObjectIntMapView();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private int indexOfNew(K key) {
+        if (key == null) {
+            throw new NullPointerException("Key cannot be null");
+        }
+        return indexOf(key);
+    }
+
+    private void insertKey(int index, K key) {
+        keys[index] = key;
+        if (++size >= resizeThreshold) {
+            resize(keys.length << 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int index) {
+        return (K) keys[index];
+    }
+
+    private int indexOf(Object key) {
+        int index = hash(key) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // Backward shift deletion keeps probe sequences unbroken without tombstones
+    private void shiftEntriesBack(int freeIndex) {
+        int index = (freeIndex + 1) & mask;
+        while (keys[index] != null) {
+            int desiredIndex = hash(keys[index]) & mask;
+            if (((index - desiredIndex) & mask) >= ((index - freeIndex) & mask)) {
+                keys[freeIndex] = keys[index];
+                values[freeIndex] = values[index];
+                keys[index] = null;
+                values[index] = 0;
+                freeIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    // Spreads poor hash codes (e.g. of small integers) over the whole table
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private class ObjectIntMapView extends AbstractMap<K, Integer> {
+
+        @Override
+        public Integer get(Object key) {
+            if (key == null) {
+                return null;
+            }
+            int index = indexOf(key);
+            return keys[index] != null ? values[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ObjectIntHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public Integer put(K key, Integer value) {
+            Integer previousValue = get(key);
+            ObjectIntHashMap.this.put(key, value);
+            return previousValue;
+        }
+
+        @Override
+        public Integer remove(Object key) {
+            Integer removedValue = get(key);
+            ObjectIntHashMap.this.remove(key);
+            return removedValue;
+        }
+
+        @Override
+        public void clear() {
+            ObjectIntHashMap.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<K, Integer>> entrySet() {
+            return new AbstractSet<Map.Entry<K, Integer>>() {
+
+                @Override
+                public Iterator<Map.Entry<K, Integer>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<K, Integer>> {
+
+        private int index = nextIndex(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<K, Integer> next() {
+            if (index >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = new Entry(keyAt(index), values[index]);
+            index = nextIndex(index + 1);
+            return entry;
+        }
+
+        private int nextIndex(int from) {
+            int i = from;
+            while (i < keys.length && keys[i] == null) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class Entry extends AbstractMap.SimpleEntry<K, Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        Entry(K key, int value) {
+            super(key, value);
+        }
+
+        @Override
+        public Integer setValue(Integer value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package pl.jsolve.sweetener.collection;
+
+/**
+ * Position of keyset pagination, returned as the next cursor of a {@link Pagination}. It remembers the key of the
+ * last returned element and how many elements with that key have been returned so far, so elements with equal keys
+ * are not lost at the boundary of pages.
+ */
+public final class PageCursor {
+
+    private static final int ALL_ELEMENTS = Integer.MAX_VALUE;
+
+    private final Object lastKey;
+    private final int elementsWithLastKey;
+
+    PageCursor(Object lastKey, int elementsWithLastKey) {
+        this.lastKey = lastKey;
+        this.elementsWithLastKey = elementsWithLastKey;
+    }
+
+    /**
+     * Returns the cursor of the page starting after all elements with the given key, which may be null.
+     */
+    public static PageCursor after(Object lastKey) {
+        return new PageCursor(lastKey, ALL_ELEMENTS);
+    }
+
+    Object getLastKey() {
+        return lastKey;
+    }
+
+    int getElementsWithLastKey() {
+        return elementsWithLastKey;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + elementsWithLastKey;
+        result = prime * result + ((lastKey == null) ? 0 : lastKey.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        PageCursor other = (PageCursor) obj;
+        if (elementsWithLastKey != other.elementsWithLastKey)
+            return false;
+        if (lastKey == null) {
+            if (other.lastKey != null)
+                return false;
+        } else if (!lastKey.equals(other.lastKey))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor [lastKey=" + lastKey + ", elementsWithLastKey="
+                + (elementsWithLastKey == ALL_ELEMENTS ? "all" : elementsWithLastKey) + "]";
+    }
+}
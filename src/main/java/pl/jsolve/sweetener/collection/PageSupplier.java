@@ -0,0 +1,12 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Collection;
+
+/**
+ * Source of the elements of pages, asked for a page only when it is visited.
+ */
+public interface PageSupplier<T> {
+
+    Collection<T> getElementsOfPage(int page);
+
+}
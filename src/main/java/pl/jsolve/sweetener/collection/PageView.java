@@ -0,0 +1,60 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only window of a collection without random access. Nothing is copied: every iteration skips the elements
+ * before the window in the iterator of the collection and stops after the last element of the window, or at the end
+ * of the collection if it has shrunk since the window was created.
+ */
+class PageView<T> extends AbstractCollection<T> {
+
+    private final Collection<T> collection;
+    private final int from;
+    private final int size;
+
+    PageView(Collection<T> collection, int from, int size) {
+        this.collection = collection;
+        this.from = from;
+        this.size = size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<T> iterator = collection.iterator();
+        for (int i = 0; i < from && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return new Iterator<T>() {
+
+            private int returned;
+
+            @Override
+            public boolean hasNext() {
+                return returned < size && iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                returned++;
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, Math.min(size, collection.size() - from));
+    }
+}
@@ -9,13 +9,20 @@ public class Pagination<T> {
     private final int totalElements;
     private final int numberOfPages;
     private final Collection<T> elementsOfPage;
+    private final PageCursor nextCursor;
 
     public Pagination(int page, int resultsPerPage, int totalElements, Collection<T> elementsOfPage) {
+        this(page, resultsPerPage, totalElements, elementsOfPage, null);
+    }
+
+    public Pagination(int page, int resultsPerPage, int totalElements, Collection<T> elementsOfPage,
+            PageCursor nextCursor) {
         this.page = page;
         this.resultsPerPage = resultsPerPage;
         this.totalElements = totalElements;
         this.numberOfPages = calculateNumberOfPages(resultsPerPage, totalElements);
         this.elementsOfPage = elementsOfPage;
+        this.nextCursor = nextCursor;
     }
 
     private int calculateNumberOfPages(int resultsPerPage, int totalElements) {
@@ -42,4 +49,16 @@ public class Pagination<T> {
         return elementsOfPage;
     }
 
+    /**
+     * Returns the cursor to pass to {@code Collections.pageAfter} for the next page, or null if this is the last page
+     * or the pagination is not based on cursors.
+     */
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextCursor() {
+        return nextCursor != null;
+    }
+
 }
@@ -0,0 +1,46 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import pl.jsolve.sweetener.core.Condition;
+
+/**
+ * Evaluates the condition for a range of elements, splitting the range in halves until it is not longer than the
+ * threshold. Results are written to a shared mask, each task owning a disjoint range of it, so merging preserves the
+ * order of the elements without any synchronization.
+ */
+class ParallelFilterTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<?> elements;
+    private final Condition<Object> condition;
+    private final boolean[] satisfied;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    ParallelFilterTask(List<?> elements, Condition<Object> condition, boolean[] satisfied, int from, int to,
+            int threshold) {
+        this.elements = elements;
+        this.condition = condition;
+        this.satisfied = satisfied;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                satisfied[i] = condition.isSatisfied(elements.get(i));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelFilterTask(elements, condition, satisfied, from, middle, threshold),
+                new ParallelFilterTask(elements, condition, satisfied, middle, to, threshold));
+    }
+}
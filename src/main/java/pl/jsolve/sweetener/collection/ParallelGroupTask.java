@@ -0,0 +1,51 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Groups a range of elements, splitting the range in halves until it is not longer than the threshold. Every task
+ * groups its elements into its own map and the maps of the halves are merged, the right one into the left one, so
+ * the elements of every group keep the order of the source.
+ */
+class ParallelGroupTask<E> extends RecursiveTask<Map<GroupKey, List<E>>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<E> elements;
+    private final String[] properties;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    ParallelGroupTask(List<E> elements, String[] properties, int from, int to, int threshold) {
+        this.elements = elements;
+        this.properties = properties;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected Map<GroupKey, List<E>> compute() {
+        if (to - from <= threshold) {
+            return Grouping.group(elements.subList(from, to), properties);
+        }
+        int middle = (from + to) >>> 1;
+        ParallelGroupTask<E> right = new ParallelGroupTask<E>(elements, properties, middle, to, threshold);
+        right.fork();
+        Map<GroupKey, List<E>> groups = new ParallelGroupTask<E>(elements, properties, from, middle, threshold)
+                .compute();
+        for (Entry<GroupKey, List<E>> entry : right.join().entrySet()) {
+            List<E> group = groups.get(entry.getKey());
+            if (group == null) {
+                groups.put(entry.getKey(), entry.getValue());
+            } else {
+                group.addAll(entry.getValue());
+            }
+        }
+        return groups;
+    }
+}
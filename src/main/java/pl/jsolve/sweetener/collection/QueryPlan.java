@@ -0,0 +1,51 @@
+package pl.jsolve.sweetener.collection;
+
+import pl.jsolve.sweetener.criteria.Restriction;
+
+public class QueryPlan {
+
+    private final String indexedField;
+    private final IndexType indexType;
+    private final Restriction indexedRestriction;
+    private final int numberOfCandidates;
+
+    public QueryPlan(String indexedField, IndexType indexType, Restriction indexedRestriction, int numberOfCandidates) {
+        this.indexedField = indexedField;
+        this.indexType = indexType;
+        this.indexedRestriction = indexedRestriction;
+        this.numberOfCandidates = numberOfCandidates;
+    }
+
+    public static QueryPlan fullScan(int numberOfCandidates) {
+        return new QueryPlan(null, null, null, numberOfCandidates);
+    }
+
+    public boolean isFullScan() {
+        return indexType == null;
+    }
+
+    public String getIndexedField() {
+        return indexedField;
+    }
+
+    public IndexType getIndexType() {
+        return indexType;
+    }
+
+    public Restriction getIndexedRestriction() {
+        return indexedRestriction;
+    }
+
+    public int getNumberOfCandidates() {
+        return numberOfCandidates;
+    }
+
+    @Override
+    public String toString() {
+        if (isFullScan()) {
+            return "QueryPlan [full scan, candidates=" + numberOfCandidates + "]";
+        }
+        return "QueryPlan [index=" + indexType + "(" + indexedField + "), restriction="
+                + indexedRestriction.getClass().getSimpleName() + ", candidates=" + numberOfCandidates + "]";
+    }
+}
@@ -0,0 +1,22 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.List;
+
+public class QueryResult<T> {
+
+    private final List<T> elements;
+    private final QueryPlan plan;
+
+    public QueryResult(List<T> elements, QueryPlan plan) {
+        this.elements = elements;
+        this.plan = plan;
+    }
+
+    public List<T> getElements() {
+        return elements;
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+}
@@ -0,0 +1,33 @@
+package pl.jsolve.sweetener.collection;
+
+public class SortOrder {
+
+    private final String fieldPath;
+    private final boolean ascending;
+
+    public SortOrder(String fieldPath, boolean ascending) {
+        this.fieldPath = fieldPath;
+        this.ascending = ascending;
+    }
+
+    public static SortOrder ascending(String fieldPath) {
+        return new SortOrder(fieldPath, true);
+    }
+
+    public static SortOrder descending(String fieldPath) {
+        return new SortOrder(fieldPath, false);
+    }
+
+    public String getFieldPath() {
+        return fieldPath;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String toString() {
+        return "SortOrder [fieldPath=" + fieldPath + ", ascending=" + ascending + "]";
+    }
+}
@@ -0,0 +1,136 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Date;
+import java.util.NavigableMap;
+
+import pl.jsolve.sweetener.criteria.Restriction;
+import pl.jsolve.sweetener.criteria.restriction.After;
+import pl.jsolve.sweetener.criteria.restriction.Before;
+import pl.jsolve.sweetener.criteria.restriction.Between;
+import pl.jsolve.sweetener.criteria.restriction.Greater;
+import pl.jsolve.sweetener.criteria.restriction.GreaterOrEquals;
+import pl.jsolve.sweetener.criteria.restriction.Less;
+import pl.jsolve.sweetener.criteria.restriction.LessOrEquals;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+/**
+ * Index ordered by the numeric value of a field. Numbers are compared by their double values, exactly like the
+ * numeric restrictions do, and dates by their milliseconds. A single index holds either numbers or dates. Null and NaN
+ * values are not indexed, as none of the range restrictions is satisfied by them. Negative zero is indexed as zero,
+ * since the restrictions compare primitive doubles, which do not tell the two apart.
+ */
+class SortedIndex extends Index {
+
+    private final NavigableMap<Double, LongHashSet> ids = Maps.newTreeMap();
+    private Class<?> keyType;
+
+    SortedIndex(String fieldName) {
+        super(fieldName);
+    }
+
+    @Override
+    IndexType getType() {
+        return IndexType.SORTED;
+    }
+
+    @Override
+    void addKey(long id, Object key) {
+        Double sortedKey = toSortedKey(key);
+        if (sortedKey != null) {
+            addId(ids, sortedKey, id);
+        }
+    }
+
+    @Override
+    void removeKey(long id, Object key) {
+        Double sortedKey = toSortedKey(key);
+        if (sortedKey != null) {
+            removeId(ids, sortedKey, id);
+            if (ids.isEmpty()) {
+                keyType = null;
+            }
+        }
+    }
+
+    @Override
+    void clearKeys() {
+        ids.clear();
+        keyType = null;
+    }
+
+    @Override
+    LongHashSet lookup(Restriction restriction) {
+        if (keyType == Date.class) {
+            return lookupDates(restriction);
+        }
+        if (restriction instanceof Greater) {
+            Double value = toBound(((Greater) restriction).getValue());
+            return value == null ? new LongHashSet() : union(ids.tailMap(value, false));
+        }
+        if (restriction instanceof GreaterOrEquals) {
+            Double value = toBound(((GreaterOrEquals) restriction).getValue());
+            return value == null ? new LongHashSet() : union(ids.tailMap(value, true));
+        }
+        if (restriction instanceof Less) {
+            Double value = toBound(((Less) restriction).getValue());
+            return value == null ? new LongHashSet() : union(ids.headMap(value, false));
+        }
+        if (restriction instanceof LessOrEquals) {
+            Double value = toBound(((LessOrEquals) restriction).getValue());
+            return value == null ? new LongHashSet() : union(ids.headMap(value, true));
+        }
+        if (restriction instanceof Between) {
+            Between between = (Between) restriction;
+            Double minValue = toBound(between.getMinValue());
+            Double maxValue = toBound(between.getMaxValue());
+            if (minValue == null || maxValue == null) {
+                return new LongHashSet();
+            }
+            return union(ids.subMap(minValue, between.isLeftInclusive(), maxValue, between.isRightInclusive()));
+        }
+        return null;
+    }
+
+    private LongHashSet lookupDates(Restriction restriction) {
+        if (restriction instanceof Before) {
+            return union(ids.headMap((double) ((Before) restriction).getValue().getTime(), false));
+        }
+        if (restriction instanceof After) {
+            return union(ids.tailMap((double) ((After) restriction).getValue().getTime(), false));
+        }
+        return null;
+    }
+
+    private Double toSortedKey(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Class<?> type = key instanceof Date ? Date.class : Number.class;
+        if (!(key instanceof Date) && !(key instanceof Number)) {
+            throw new AccessToFieldException("Type mismatch. Expected Number or Date but was "
+                    + key.getClass().getCanonicalName());
+        }
+        if (keyType != null && keyType != type) {
+            throw new AccessToFieldException("Type mismatch. Expected %s but was %s", keyType.getSimpleName(), key
+                    .getClass().getCanonicalName());
+        }
+        keyType = type;
+        if (key instanceof Date) {
+            return (double) ((Date) key).getTime();
+        }
+        return toBound((Number) key);
+    }
+
+    // Orders values like the primitive comparisons of the restrictions do: no NaN, and negative zero equal to zero
+    private static Double toBound(Number number) {
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        return value == 0.0 ? 0.0 : value;
+    }
+
+    private static LongHashSet union(NavigableMap<Double, LongHashSet> range) {
+        return union(range.values());
+    }
+}
@@ -0,0 +1,151 @@
+package pl.jsolve.sweetener.collection;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Sorting by field paths. The sort keys of every element are read once, before sorting, so comparisons only compare
+ * the extracted values. Null values are lower than any other value. Elements with equal keys keep the order of the
+ * source.
+ */
+final class Sorting {
+
+    private Sorting() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    static <T> List<T> sort(Iterable<T> elements, SortOrder... orders) {
+        KeyExtractor extractor = new KeyExtractor(orders);
+        List<KeyedElement<T>> keyedElements = Collections.newArrayList();
+        for (T element : elements) {
+            keyedElements.add(new KeyedElement<T>(element, extractor.extract(element, null), keyedElements.size()));
+        }
+        java.util.Collections.sort(keyedElements, new KeyComparator(orders));
+        return toElements(keyedElements);
+    }
+
+    /**
+     * Keeps the k lowest elements seen so far in a heap whose head is the highest of them, so an element which would
+     * not make it into the result is rejected after a single comparison, reusing the arrays of its keys.
+     */
+    static <T> List<T> topK(Iterable<T> elements, int k, SortOrder... orders) {
+        if (k < 0) {
+            throw new InvalidArgumentException("The number of elements cannot be negative");
+        }
+        KeyExtractor extractor = new KeyExtractor(orders);
+        final KeyComparator comparator = new KeyComparator(orders);
+        if (k == 0) {
+            return Collections.newArrayList();
+        }
+        PriorityQueue<KeyedElement<T>> heap = new PriorityQueue<KeyedElement<T>>(k, new Comparator<KeyedElement<T>>() {
+
+            @Override
+            public int compare(KeyedElement<T> element1, KeyedElement<T> element2) {
+                return comparator.compare(element2, element1);
+            }
+        });
+        KeyedElement<T> candidate = new KeyedElement<T>(null, new Object[orders.length], 0);
+        int index = 0;
+        for (T element : elements) {
+            candidate.element = element;
+            candidate.keys = extractor.extract(element, candidate.keys);
+            candidate.index = index++;
+            if (heap.size() < k) {
+                heap.add(candidate);
+                candidate = new KeyedElement<T>(null, new Object[orders.length], 0);
+            } else if (comparator.compare(candidate, heap.peek()) < 0) {
+                KeyedElement<T> rejected = heap.poll();
+                heap.add(candidate);
+                candidate = rejected;
+            }
+        }
+        List<KeyedElement<T>> keyedElements = Collections.newArrayList(heap);
+        java.util.Collections.sort(keyedElements, comparator);
+        return toElements(keyedElements);
+    }
+
+    private static <T> List<T> toElements(List<KeyedElement<T>> keyedElements) {
+        List<T> result = Collections.newArrayListWithCapacity(keyedElements.size());
+        for (KeyedElement<T> keyedElement : keyedElements) {
+            result.add(keyedElement.element);
+        }
+        return result;
+    }
+
+    private static class KeyedElement<T> {
+
+        private T element;
+        private Object[] keys;
+        private int index;
+
+        KeyedElement(T element, Object[] keys, int index) {
+            this.element = element;
+            this.keys = keys;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Reads the sort keys, checking that they can be compared.
+     */
+    private static class KeyExtractor {
+
+        private final FieldValuesReader reader;
+
+        KeyExtractor(SortOrder[] orders) {
+            if (orders.length == 0) {
+                throw new InvalidArgumentException("At least one field path has to be given");
+            }
+            String[] fieldPaths = new String[orders.length];
+            for (int i = 0; i < orders.length; i++) {
+                fieldPaths[i] = orders[i].getFieldPath();
+            }
+            this.reader = new FieldValuesReader(fieldPaths);
+        }
+
+        Object[] extract(Object element, Object[] keys) {
+            Object[] result = reader.read(element, keys == null ? new Object[reader.size()] : keys);
+            for (int i = 0; i < result.length; i++) {
+                if (result[i] != null && !(result[i] instanceof Comparable)) {
+                    throw new InvalidArgumentException("The field " + reader.getFieldPath(i) + " is not comparable");
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class KeyComparator implements Comparator<KeyedElement<?>> {
+
+        private final boolean[] ascending;
+
+        KeyComparator(SortOrder[] orders) {
+            this.ascending = new boolean[orders.length];
+            for (int i = 0; i < orders.length; i++) {
+                ascending[i] = orders[i].isAscending();
+            }
+        }
+
+        @Override
+        public int compare(KeyedElement<?> element1, KeyedElement<?> element2) {
+            for (int i = 0; i < ascending.length; i++) {
+                int result = compareKeys(element1.keys[i], element2.keys[i]);
+                if (result != 0) {
+                    return ascending[i] ? result : -result;
+                }
+            }
+            return element1.index < element2.index ? -1 : element1.index == element2.index ? 0 : 1;
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    static int compareKeys(Object key1, Object key2) {
+        if (key1 == null || key2 == null) {
+            return key1 == null ? key2 == null ? 0 : -1 : 1;
+        }
+        return ((Comparable<Object>) key1).compareTo(key2);
+    }
+}
@@ -0,0 +1,19 @@
+package pl.jsolve.sweetener.core;
+
+public interface FieldAccessor {
+
+    Object get(Object object);
+
+    /**
+     * Reads the value of a numeric field as a double. Fields of primitive numeric types are read without boxing.
+     */
+    double getDouble(Object object);
+
+    /**
+     * Reads the value of an integral field, or a char field, as a long. Fields of these primitive types are read
+     * without boxing.
+     */
+    long getLong(Object object);
+
+    void set(Object object, Object value);
+}
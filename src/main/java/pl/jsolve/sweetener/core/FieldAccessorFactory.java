@@ -0,0 +1,8 @@
+package pl.jsolve.sweetener.core;
+
+import java.lang.reflect.Field;
+
+public interface FieldAccessorFactory {
+
+    FieldAccessor create(Field field);
+}
@@ -0,0 +1,41 @@
+package pl.jsolve.sweetener.core;
+
+import java.lang.reflect.Field;
+
+public final class FieldAccessors {
+
+    public static final FieldAccessorFactory REFLECTION = new FieldAccessorFactory() {
+
+        @Override
+        public FieldAccessor create(Field field) {
+            return new ReflectionFieldAccessor(field);
+        }
+    };
+
+    public static final FieldAccessorFactory METHOD_HANDLE = new FieldAccessorFactory() {
+
+        @Override
+        public FieldAccessor create(Field field) {
+            try {
+                return new MethodHandleFieldAccessor(field);
+            } catch (IllegalAccessException e) {
+                return REFLECTION.create(field);
+            } catch (RuntimeException e) {
+                return REFLECTION.create(field);
+            }
+        }
+    };
+
+    static boolean isNumericPrimitive(Class<?> type) {
+        return type.isPrimitive() && type != boolean.class && type != char.class && type != void.class;
+    }
+
+    static boolean isIntegralPrimitive(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class
+                || type == char.class;
+    }
+
+    private FieldAccessors() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+}
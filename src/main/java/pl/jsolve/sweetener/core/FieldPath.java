@@ -0,0 +1,89 @@
+package pl.jsolve.sweetener.core;
+
+import java.lang.reflect.Field;
+
+import pl.jsolve.sweetener.exception.InstanceCreationException;
+
+/**
+ * Chain of fields resolved once for a dotted path (e.g. "company.address.city"). Every field of the chain gets its
+ * accessor at resolution time, so reading or writing the path does not repeat the lookup nor toggle the accessibility
+ * flag.
+ */
+public final class FieldPath {
+
+    private final String path;
+    private final Field[] fields;
+    private final FieldAccessor[] accessors;
+
+    FieldPath(String path, Field[] fields, FieldAccessorFactory accessorFactory) {
+        this.path = path;
+        this.fields = fields;
+        this.accessors = new FieldAccessor[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            accessors[i] = accessorFactory.create(fields[i]);
+        }
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Field getField() {
+        return fields[fields.length - 1];
+    }
+
+    public Class<?> getType() {
+        return getField().getType();
+    }
+
+    public boolean isNumericPrimitive() {
+        return FieldAccessors.isNumericPrimitive(getType());
+    }
+
+    public Object getValue(Object object) {
+        return accessors[accessors.length - 1].get(getOwner(object));
+    }
+
+    public double getDoubleValue(Object object) {
+        return accessors[accessors.length - 1].getDouble(getOwner(object));
+    }
+
+    public long getLongValue(Object object) {
+        return accessors[accessors.length - 1].getLong(getOwner(object));
+    }
+
+    public void setValue(Object object, Object value) {
+        accessors[accessors.length - 1].set(getOwner(object), value);
+    }
+
+    Object getOrCreateValue(Object object) {
+        return getOrCreateValue(getOwner(object), accessors.length - 1);
+    }
+
+    private Object getOwner(Object object) {
+        Object owner = object;
+        for (int i = 0; i < accessors.length - 1; i++) {
+            owner = getOrCreateValue(owner, i);
+        }
+        return owner;
+    }
+
+    private Object getOrCreateValue(Object object, int index) {
+        Object value = accessors[index].get(object);
+        if (value == null) {
+            Class<?> type = fields[index].getType();
+            try {
+                value = type.newInstance();
+            } catch (Exception ex) {
+                throw new InstanceCreationException("Could not create new instance of " + type, ex);
+            }
+            accessors[index].set(object, value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldPath [path=" + path + "]";
+    }
+}
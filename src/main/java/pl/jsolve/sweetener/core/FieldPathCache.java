@@ -0,0 +1,87 @@
+package pl.jsolve.sweetener.core;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import pl.jsolve.sweetener.collection.Maps;
+
+/**
+ * Resolved field paths grouped by class. The per class maps are attached to the classes through {@link ClassValue}, so
+ * they do not prevent classes from being unloaded. Paths which do not exist are cached as well, so checking for a
+ * missing field does not cost an exception per call. The number of paths kept for a single class is bounded; paths
+ * over the limit are resolved on every call. The accessors of the cached paths are created by a single factory, so
+ * switching the factory means replacing the whole cache. Hits are counted by every thread in its own stripe, so
+ * threads reading fields concurrently do not contend on a single counter.
+ */
+class FieldPathCache {
+
+    private static final Object MISSING_FIELD_PATH = new Object();
+
+    private final int maxFieldPathsPerClass;
+    private final FieldAccessorFactory accessorFactory;
+    private final StripedCounter hits = new StripedCounter();
+    private final AtomicLong misses = new AtomicLong();
+    private final ClassValue<ConcurrentMap<String, Object>> fieldPaths = new ClassValue<ConcurrentMap<String, Object>>() {
+
+        @Override
+        protected ConcurrentMap<String, Object> computeValue(Class<?> type) {
+            return Maps.newConcurrentMap();
+        }
+    };
+
+    FieldPathCache(int maxFieldPathsPerClass, FieldAccessorFactory accessorFactory) {
+        this.maxFieldPathsPerClass = maxFieldPathsPerClass;
+        this.accessorFactory = accessorFactory;
+    }
+
+    FieldAccessorFactory getAccessorFactory() {
+        return accessorFactory;
+    }
+
+    FieldPath get(Class<?> clazz, String stringOfFieldsName) {
+        ConcurrentMap<String, Object> fieldPathsOfClass = fieldPaths.get(clazz);
+        Object fieldPath = fieldPathsOfClass.get(stringOfFieldsName);
+        if (fieldPath != null) {
+            hits.increment();
+            return fieldPath == MISSING_FIELD_PATH ? null : (FieldPath) fieldPath;
+        }
+        misses.incrementAndGet();
+        FieldPath resolvedFieldPath = Reflections.resolveFieldPath(clazz, stringOfFieldsName, accessorFactory);
+        if (fieldPathsOfClass.size() < maxFieldPathsPerClass) {
+            fieldPathsOfClass.putIfAbsent(stringOfFieldsName, resolvedFieldPath == null ? MISSING_FIELD_PATH
+                    : resolvedFieldPath);
+        }
+        return resolvedFieldPath;
+    }
+
+    FieldPathCacheStatistics getStatistics() {
+        return new FieldPathCacheStatistics(hits.sum(), misses.get());
+    }
+
+    /**
+     * Counter split into stripes chosen by the id of the thread. Every stripe sits on its own cache line, and the
+     * stripes are summed only when the counter is read.
+     */
+    private static class StripedCounter {
+
+        private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1;
+        // 8 longs are 64 bytes, the usual size of a cache line
+        private static final int PADDING = 8;
+
+        private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * PADDING);
+
+        void increment() {
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            stripes.incrementAndGet(stripe * PADDING);
+        }
+
+        long sum() {
+            long sum = 0;
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                sum += stripes.get(stripe * PADDING);
+            }
+            return sum;
+        }
+    }
+}
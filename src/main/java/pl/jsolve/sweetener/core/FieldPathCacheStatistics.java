@@ -0,0 +1,34 @@
+package pl.jsolve.sweetener.core;
+
+public class FieldPathCacheStatistics {
+
+    private final long hits;
+    private final long misses;
+
+    public FieldPathCacheStatistics(long hits, long misses) {
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getRequests() {
+        return hits + misses;
+    }
+
+    public double getHitRate() {
+        long requests = getRequests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldPathCacheStatistics [hits=" + hits + ", misses=" + misses + "]";
+    }
+}
@@ -0,0 +1,96 @@
+package pl.jsolve.sweetener.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+/**
+ * Accessor backed by method handles adapted to the (Object)Object getter and (Object, Object)void setter shapes, so
+ * they can be called with invokeExact. Fields of primitive numeric types also get an (Object)double getter, and
+ * integral and char fields an (Object)long getter, which widen the value without boxing it. Final fields cannot be written through a method handle, so writes to them are
+ * delegated to reflection.
+ */
+class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType DOUBLE_GETTER_TYPE = MethodType.methodType(double.class, Object.class);
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle doubleGetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle setter;
+    private final FieldAccessor reflectionSetter;
+
+    MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+        this.field = field;
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle fieldGetter = lookup.unreflectGetter(field);
+        this.getter = fieldGetter.asType(GETTER_TYPE);
+        this.doubleGetter = FieldAccessors.isNumericPrimitive(field.getType()) ? fieldGetter
+                .asType(DOUBLE_GETTER_TYPE) : null;
+        this.longGetter = FieldAccessors.isIntegralPrimitive(field.getType()) ? fieldGetter.asType(LONG_GETTER_TYPE)
+                : null;
+        MethodHandle fieldSetter = null;
+        try {
+            fieldSetter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // final field
+        }
+        this.setter = fieldSetter;
+        this.reflectionSetter = fieldSetter == null ? new ReflectionFieldAccessor(field) : null;
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        if (doubleGetter == null) {
+            return ((Number) get(object)).doubleValue();
+        }
+        try {
+            return (double) doubleGetter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public long getLong(Object object) {
+        if (longGetter == null) {
+            return ((Number) get(object)).longValue();
+        }
+        try {
+            return (long) longGetter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        if (setter == null) {
+            reflectionSetter.set(object, value);
+            return;
+        }
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable e) {
+            throw new AccessToFieldException("Exception during setting value of %s field\n%s", field.getName(),
+                    e.getMessage());
+        }
+    }
+}
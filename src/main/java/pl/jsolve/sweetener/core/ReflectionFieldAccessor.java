@@ -0,0 +1,62 @@
+package pl.jsolve.sweetener.core;
+
+import java.lang.reflect.Field;
+
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+class ReflectionFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    ReflectionFieldAccessor(Field field) {
+        this.field = field;
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // access is checked again, and reported, when the field is read or written
+        }
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return field.get(object);
+        } catch (Exception e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        if (!FieldAccessors.isNumericPrimitive(field.getType())) {
+            return ((Number) get(object)).doubleValue();
+        }
+        try {
+            return field.getDouble(object);
+        } catch (Exception e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public long getLong(Object object) {
+        if (!FieldAccessors.isIntegralPrimitive(field.getType())) {
+            return ((Number) get(object)).longValue();
+        }
+        try {
+            return field.getLong(object);
+        } catch (Exception e) {
+            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            field.set(object, value);
+        } catch (Exception e) {
+            throw new AccessToFieldException("Exception during setting value of %s field\n%s", field.getName(),
+                    e.getMessage());
+        }
+    }
+}
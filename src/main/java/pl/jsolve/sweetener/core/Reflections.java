@@ -11,21 +11,22 @@ import static pl.jsolve.sweetener.core.ConditionFactory.*;
 
 public final class Reflections {
 
-    private static final String DOT = "\\.";
+    private static final int MAX_CACHED_FIELD_PATHS_PER_CLASS = 256;
     private static final Condition<Class<?>> ALWAYS_SATISFIED_CLASS_CONDITION = createAlwaysSatisfiedCondition();
     private static final Condition<Field> ALWAYS_SATISFIED_FIELD_CONDITION = createAlwaysSatisfiedCondition();
     private static final Condition<Annotation> ALWAYS_SATISFIED_ANNOTATION_CONDITION = createAlwaysSatisfiedCondition();
     private static final Condition<Constructor<?>> ALWAYS_SATISFIED_CONSTRUCTOR_CONDITION = createAlwaysSatisfiedCondition();
     private static final Condition<Method> ALWAYS_SATISFIED_METHOD_CONDITION = createAlwaysSatisfiedCondition();
 
+    private static volatile FieldPathCache fieldPathCache = new FieldPathCache(MAX_CACHED_FIELD_PATHS_PER_CLASS,
+            FieldAccessors.METHOD_HANDLE);
+
     private Reflections() {
         throw new AssertionError("Using constructor of this class is prohibited.");
     }
 
     public static Class<?> getFieldType(Object object, String stringOfFieldsName) {
-        FieldWithOwner field = getLastNestedField(object, stringOfFieldsName);
-        throwExceptonWhenFieldIsNotPresent(field, stringOfFieldsName);
-        return field.getField().getType();
+        return getFieldOfObject(object, stringOfFieldsName).getFieldPath().getType();
     }
 
     public static <T> T getFieldValue(Object object, String stringOfFieldsName, Class<T> clazz) {
@@ -33,87 +34,97 @@ public final class Reflections {
     }
 
     public static Object getFieldValue(Object object, String stringOfFieldsName) {
-        FieldWithOwner field = getLastNestedField(object, stringOfFieldsName);
-        throwExceptonWhenFieldIsNotPresent(field, stringOfFieldsName);
-        return getFieldValue(field.getOwner(), field.getField());
+        FieldOfObject field = getFieldOfObject(object, stringOfFieldsName);
+        return field.getFieldPath().getValue(field.getOwner());
     }
 
     public static void setFieldValue(Object object, String stringOfFieldsName, Object value) {
-        FieldWithOwner field = getLastNestedField(object, stringOfFieldsName);
-        throwExceptonWhenFieldIsNotPresent(field, stringOfFieldsName);
-        setField(field.getOwner(), field.getField(), value);
+        FieldOfObject field = getFieldOfObject(object, stringOfFieldsName);
+        field.getFieldPath().setValue(field.getOwner(), value);
     }
 
-    private static void throwExceptonWhenFieldIsNotPresent(FieldWithOwner field, String stringOfFieldsName) {
+    public static boolean isFieldPresent(Object object, String stringOfFieldsName) {
+        return findFieldOfObject(object, stringOfFieldsName) != null;
+    }
+
+    private static FieldOfObject getFieldOfObject(Object object, String stringOfFieldsName) {
+        FieldOfObject field = findFieldOfObject(object, stringOfFieldsName);
         if (field == null) {
             throw new AccessToFieldException("The field %s does not exist", stringOfFieldsName);
         }
+        return field;
     }
 
-    public static boolean isFieldPresent(Object object, String stringOfFieldsName) {
-        return getLastNestedField(object, stringOfFieldsName) != null;
+    // Nested values may be instances of subclasses of the declared field types, so a path which does not exist in the
+    // declared types is looked up again in the classes of the nested values
+    private static FieldOfObject findFieldOfObject(Object object, String stringOfFieldsName) {
+        FieldPath fieldPath = fieldPathCache.get(object.getClass(), stringOfFieldsName);
+        if (fieldPath != null) {
+            return new FieldOfObject(object, fieldPath);
+        }
+        int dot = stringOfFieldsName.indexOf('.');
+        if (dot == -1) {
+            return null;
+        }
+        FieldPath firstFieldPath = fieldPathCache.get(object.getClass(), stringOfFieldsName.substring(0, dot));
+        if (firstFieldPath == null) {
+            return null;
+        }
+        return findFieldOfObject(firstFieldPath.getOrCreateValue(object), stringOfFieldsName.substring(dot + 1));
     }
 
-    private static FieldWithOwner getLastNestedField(Object object, String stringOfFieldsName) {
-        String[] fieldsName = stringOfFieldsName.split(DOT);
-        int levelOfNestedObject = 0;
-        Class<?> clazz = object.getClass();
-        while (!Object.class.equals(clazz)) {
-            Class<?> nestedClass = clazz;
-            for (int i = levelOfNestedObject; i < fieldsName.length; i++) {
-                Field field = getDeclaredField(nestedClass, fieldsName[i]);
-                if (field != null) {
-                    boolean isLastNestedObject = (i == fieldsName.length - 1);
-                    if (isLastNestedObject) {
-                        return new FieldWithOwner(field, object);
-                    }
-                    createValueIfNull(object, field);
-                    object = getFieldValue(object, field);
-                    nestedClass = object.getClass();
-                    levelOfNestedObject++;
-                }
-            }
-            clazz = clazz.getSuperclass();
+    public static FieldPath getFieldPath(Class<?> clazz, String stringOfFieldsName) {
+        FieldPath fieldPath = fieldPathCache.get(clazz, stringOfFieldsName);
+        if (fieldPath == null) {
+            throw new AccessToFieldException("The field %s does not exist", stringOfFieldsName);
         }
-        return null;
+        return fieldPath;
     }
 
-    private static void createValueIfNull(Object object, Field field) {
-        try {
-            Object valueOfField = getFieldValue(object, field);
-            if (valueOfField == null) {
-                Object newInstance = field.getType().newInstance();
-                field.setAccessible(true);
-                field.set(object, newInstance);
-            }
-        } catch (Exception ex) {
-            throw new InstanceCreationException("Could not create new instance of " + field.getType(), ex);
-        } finally {
-            field.setAccessible(false);
+    public static FieldPathCacheStatistics getFieldPathCacheStatistics() {
+        return fieldPathCache.getStatistics();
+    }
+
+    public static FieldAccessorFactory getFieldAccessorFactory() {
+        return fieldPathCache.getAccessorFactory();
+    }
+
+    public static void setFieldAccessorFactory(FieldAccessorFactory accessorFactory) {
+        if (accessorFactory == null) {
+            throw new NullPointerException("Field accessor factory cannot be null");
         }
+        fieldPathCache = new FieldPathCache(MAX_CACHED_FIELD_PATHS_PER_CLASS, accessorFactory);
     }
 
-    private static void setField(Object object, Field field, Object value) {
-        try {
-            field.setAccessible(true);
-            field.set(object, value);
-        } catch (Exception e) {
-            throw new AccessToFieldException("Exception during setting value of %s field\n%s", field.getName(),
-                    e.getMessage());
-        } finally {
-            field.setAccessible(false);
+    static FieldPath resolveFieldPath(Class<?> clazz, String stringOfFieldsName, FieldAccessorFactory accessorFactory) {
+        List<Field> fields = Collections.newArrayList();
+        Class<?> nestedClass = clazz;
+        int from = 0;
+        while (from <= stringOfFieldsName.length()) {
+            int to = stringOfFieldsName.indexOf('.', from);
+            if (to == -1) {
+                to = stringOfFieldsName.length();
+            }
+            Field field = findField(nestedClass, stringOfFieldsName.substring(from, to));
+            if (field == null) {
+                return null;
+            }
+            fields.add(field);
+            nestedClass = field.getType();
+            from = to + 1;
         }
+        return new FieldPath(stringOfFieldsName, fields.toArray(new Field[fields.size()]), accessorFactory);
     }
 
-    private static Object getFieldValue(Object object, Field field) {
-        try {
-            field.setAccessible(true);
-            return field.get(object);
-        } catch (Exception e) {
-            throw new AccessToFieldException("Exception during getting value of %s field", field.getName());
-        } finally {
-            field.setAccessible(false);
+    private static Field findField(Class<?> clazz, String fieldName) {
+        while (clazz != null && !Object.class.equals(clazz)) {
+            Field field = getDeclaredField(clazz, fieldName);
+            if (field != null) {
+                return field;
+            }
+            clazz = clazz.getSuperclass();
         }
+        return null;
     }
 
     private static Field getDeclaredField(Class<?> clazz, String fieldName) {
@@ -262,4 +273,23 @@ public final class Reflections {
                     + constructor.getDeclaringClass(), e);
         }
     }
+
+    private static final class FieldOfObject {
+
+        private final Object owner;
+        private final FieldPath fieldPath;
+
+        FieldOfObject(Object owner, FieldPath fieldPath) {
+            this.owner = owner;
+            this.fieldPath = fieldPath;
+        }
+
+        Object getOwner() {
+            return owner;
+        }
+
+        FieldPath getFieldPath() {
+            return fieldPath;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Compiled criteria which orders its restrictions by the cost and selectivity observed at runtime. During the warm-up
+ * the restrictions are evaluated in the compiled order up to the first rejection, just like afterwards, and the time
+ * and result of every evaluated restriction are recorded. Once the warm-up is over the order is frozen: restrictions
+ * are sorted ascending by average cost divided by rejection rate, so cheap restrictions rejecting most of the objects
+ * are evaluated first. Restrictions which were never reached during the warm-up stay last, in their order.
+ */
+public class AdaptiveCriteria extends CompiledCriteria {
+
+    private static final double MIN_REJECTION_RATE = 0.001;
+
+    private final int warmUpEvaluations;
+    private final long[] costs;
+    private final long[] evaluationsOfRestrictions;
+    private final long[] rejections;
+    private int evaluations;
+    private volatile CompiledRestriction[] evaluationOrder;
+
+    AdaptiveCriteria(Class<?> compiledClass, CompiledRestriction[] restrictions, int warmUpEvaluations) {
+        super(compiledClass, restrictions);
+        if (warmUpEvaluations < 1) {
+            throw new InvalidArgumentException("The number of warm-up evaluations has to be greater than zero");
+        }
+        this.warmUpEvaluations = warmUpEvaluations;
+        this.costs = new long[restrictions.length];
+        this.evaluationsOfRestrictions = new long[restrictions.length];
+        this.rejections = new long[restrictions.length];
+    }
+
+    @Override
+    public boolean isSatisfied(Object object) {
+        CompiledRestriction[] restrictions = evaluationOrder;
+        if (restrictions == null) {
+            return warmUp(object);
+        }
+        if (CriteriaMetrics.isEnabled()) {
+            return isSatisfiedRecording(restrictions, object);
+        }
+        for (CompiledRestriction restriction : restrictions) {
+            if (!restriction.satisfies(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isWarmedUp() {
+        return evaluationOrder != null;
+    }
+
+    /**
+     * Returns the restrictions of the criteria in the order they are evaluated. Restrictions of the same field, which
+     * are evaluated together, are returned one after another.
+     */
+    public List<Restriction> getRestrictionsInEvaluationOrder() {
+        CompiledRestriction[] restrictions = evaluationOrder;
+        if (restrictions == null) {
+            restrictions = getCompiledRestrictions();
+        }
+        List<Restriction> result = Collections.newArrayListWithCapacity(restrictions.length);
+        for (CompiledRestriction restriction : restrictions) {
+            addSourceRestrictions(restriction, result);
+        }
+        return result;
+    }
+
+    private boolean warmUp(Object object) {
+        CompiledRestriction[] restrictions = getCompiledRestrictions();
+        long[] elapsed = new long[restrictions.length];
+        int evaluated = 0;
+        boolean satisfied = true;
+        while (satisfied && evaluated < restrictions.length) {
+            long start = System.nanoTime();
+            satisfied = restrictions[evaluated].satisfies(object);
+            elapsed[evaluated++] = System.nanoTime() - start;
+        }
+        record(elapsed, evaluated, satisfied);
+        return satisfied;
+    }
+
+    private synchronized void record(long[] elapsed, int evaluated, boolean satisfied) {
+        if (evaluationOrder != null) {
+            return;
+        }
+        for (int i = 0; i < evaluated; i++) {
+            costs[i] += elapsed[i];
+            evaluationsOfRestrictions[i]++;
+        }
+        if (!satisfied) {
+            rejections[evaluated - 1]++;
+        }
+        evaluations++;
+        if (evaluations >= warmUpEvaluations) {
+            evaluationOrder = sortByRank();
+        }
+    }
+
+    private CompiledRestriction[] sortByRank() {
+        CompiledRestriction[] restrictions = getCompiledRestrictions();
+        Integer[] indexes = new Integer[restrictions.length];
+        final double[] ranks = new double[restrictions.length];
+        for (int i = 0; i < restrictions.length; i++) {
+            indexes[i] = i;
+            if (evaluationsOfRestrictions[i] == 0) {
+                ranks[i] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            double averageCost = (double) costs[i] / evaluationsOfRestrictions[i];
+            double rejectionRate = Math.max((double) rejections[i] / evaluationsOfRestrictions[i],
+                    MIN_REJECTION_RATE);
+            ranks[i] = averageCost / rejectionRate;
+        }
+        Arrays.sort(indexes, new Comparator<Integer>() {
+
+            @Override
+            public int compare(Integer index1, Integer index2) {
+                return Double.compare(ranks[index1], ranks[index2]);
+            }
+        });
+        CompiledRestriction[] sortedRestrictions = new CompiledRestriction[restrictions.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sortedRestrictions[i] = restrictions[indexes[i]];
+        }
+        return sortedRestrictions;
+    }
+}
@@ -0,0 +1,13 @@
+package pl.jsolve.sweetener.criteria;
+
+import pl.jsolve.sweetener.criteria.restriction.AggregatedValues;
+
+/**
+ * Field restriction checking an aggregate of a collection or an array. Compiled criteria aggregate the elements once
+ * for all the restrictions of the same field, and pass the result to {@link #satisfies(AggregatedValues)}.
+ */
+public interface AggregationRestriction extends FieldRestriction {
+
+    public boolean satisfies(AggregatedValues values);
+
+}
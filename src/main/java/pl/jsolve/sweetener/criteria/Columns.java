@@ -0,0 +1,244 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import pl.jsolve.sweetener.collection.LongHashSet;
+import pl.jsolve.sweetener.collection.Maps;
+import pl.jsolve.sweetener.criteria.restriction.And;
+import pl.jsolve.sweetener.criteria.restriction.Equals;
+import pl.jsolve.sweetener.criteria.restriction.In;
+import pl.jsolve.sweetener.criteria.restriction.Or;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+
+/**
+ * Rows stored as named columns of equal length. Criteria are evaluated a whole column at a time and produce a
+ * selection of the satisfying rows, where the field name of a restriction is the name of a column. Comparisons,
+ * Equals and In on long and double columns run in loops over the primitive values without boxing them; the remaining
+ * restrictions, and all restrictions on object columns, are evaluated value by value with the same semantics as for
+ * objects.
+ */
+public class Columns {
+
+    private static final int WORD_SIZE = 64;
+
+    private final int size;
+    private final Map<String, Object> columns = Maps.newHashMap();
+
+    public Columns(int size) {
+        if (size < 0) {
+            throw new InvalidArgumentException("The number of rows cannot be negative");
+        }
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Columns add(String name, long[] values) {
+        checkLength(name, values.length);
+        columns.put(name, values);
+        return this;
+    }
+
+    public Columns add(String name, double[] values) {
+        checkLength(name, values.length);
+        columns.put(name, values);
+        return this;
+    }
+
+    public Columns add(String name, Object[] values) {
+        checkLength(name, values.length);
+        columns.put(name, values);
+        return this;
+    }
+
+    private void checkLength(String name, int length) {
+        if (length != size) {
+            throw new InvalidArgumentException("The column " + name + " has " + length + " values but " + size
+                    + " were expected");
+        }
+    }
+
+    public BitSet select(Criteria criteria) {
+        return BitSet.valueOf(evaluateAll(criteria.getSortedRestrictions()));
+    }
+
+    public BitSet select(Restriction restriction) {
+        long[] selection = evaluate(restriction);
+        return BitSet.valueOf(selection == null ? allRows() : selection);
+    }
+
+    // null means that the restriction is not checked, as And and Or skip restrictions which are neither field nor
+    // complex restrictions
+    private long[] evaluate(Restriction restriction) {
+        if (restriction instanceof FieldRestriction) {
+            return evaluate((FieldRestriction) restriction);
+        } else if (restriction instanceof And) {
+            return evaluateAll(((And) restriction).getRestrictions());
+        } else if (restriction instanceof Or) {
+            return evaluateAny(((Or) restriction).getRestrictions());
+        } else if (restriction instanceof ComplexRestriction) {
+            throw new InvalidArgumentException("Only field restrictions, And and Or can be evaluated over columns");
+        }
+        return null;
+    }
+
+    private long[] evaluateAll(List<Restriction> restrictions) {
+        long[] selection = allRows();
+        for (Restriction restriction : restrictions) {
+            long[] restrictionSelection = evaluate(restriction);
+            if (restrictionSelection != null) {
+                for (int i = 0; i < selection.length; i++) {
+                    selection[i] &= restrictionSelection[i];
+                }
+            }
+        }
+        return selection;
+    }
+
+    private long[] evaluateAny(List<Restriction> restrictions) {
+        long[] selection = noRows();
+        for (Restriction restriction : restrictions) {
+            long[] restrictionSelection = evaluate(restriction);
+            if (restrictionSelection != null) {
+                for (int i = 0; i < selection.length; i++) {
+                    selection[i] |= restrictionSelection[i];
+                }
+            }
+        }
+        return selection;
+    }
+
+    private long[] evaluate(FieldRestriction restriction) {
+        Object column = columns.get(restriction.getFieldName());
+        if (column == null) {
+            throw new AccessToFieldException("The column %s does not exist", restriction.getFieldName());
+        }
+        if (column instanceof long[]) {
+            return evaluate(restriction, (long[]) column);
+        } else if (column instanceof double[]) {
+            return evaluate(restriction, (double[]) column);
+        }
+        return evaluate(restriction, (Object[]) column);
+    }
+
+    private long[] evaluate(FieldRestriction restriction, long[] column) {
+        if (restriction instanceof NumericRestriction) {
+            return select((NumericRestriction) restriction, column);
+        }
+        long[] selection = noRows();
+        if (restriction instanceof Equals || restriction instanceof In) {
+            LongHashSet values = valuesOfType(restriction, Long.class);
+            for (int i = 0; i < column.length; i++) {
+                if (values.contains(column[i])) {
+                    selection[i / WORD_SIZE] |= 1L << i;
+                }
+            }
+        } else {
+            for (int i = 0; i < column.length; i++) {
+                if (restriction.satisfies(column[i])) {
+                    selection[i / WORD_SIZE] |= 1L << i;
+                }
+            }
+        }
+        return selection;
+    }
+
+    private long[] evaluate(FieldRestriction restriction, double[] column) {
+        if (restriction instanceof NumericRestriction) {
+            return select((NumericRestriction) restriction, column);
+        }
+        long[] selection = noRows();
+        if (restriction instanceof Equals || restriction instanceof In) {
+            // Double.equals compares the bits of the values
+            LongHashSet values = valuesOfType(restriction, Double.class);
+            for (int i = 0; i < column.length; i++) {
+                if (values.contains(Double.doubleToLongBits(column[i]))) {
+                    selection[i / WORD_SIZE] |= 1L << i;
+                }
+            }
+        } else {
+            for (int i = 0; i < column.length; i++) {
+                if (restriction.satisfies(column[i])) {
+                    selection[i / WORD_SIZE] |= 1L << i;
+                }
+            }
+        }
+        return selection;
+    }
+
+    // the values of every word are converted to doubles first, so long columns are selected by the same loop
+    private long[] select(NumericRestriction restriction, long[] column) {
+        long[] selection = noRows();
+        double[] values = new double[WORD_SIZE];
+        for (int word = 0; word < selection.length; word++) {
+            int from = word * WORD_SIZE;
+            int length = Math.min(WORD_SIZE, column.length - from);
+            for (int i = 0; i < length; i++) {
+                values[i] = column[from + i];
+            }
+            selection[word] = selectWord(restriction, values, 0, length);
+        }
+        return selection;
+    }
+
+    private long[] select(NumericRestriction restriction, double[] column) {
+        long[] selection = noRows();
+        for (int word = 0; word < selection.length; word++) {
+            int from = word * WORD_SIZE;
+            selection[word] = selectWord(restriction, column, from, Math.min(WORD_SIZE, column.length - from));
+        }
+        return selection;
+    }
+
+    // the word is built in a local variable by a branch-free loop
+    private static long selectWord(NumericRestriction restriction, double[] values, int from, int length) {
+        long bits = 0L;
+        for (int i = 0; i < length; i++) {
+            bits |= (restriction.satisfies(values[from + i]) ? 1L : 0L) << i;
+        }
+        return bits;
+    }
+
+    private long[] evaluate(FieldRestriction restriction, Object[] column) {
+        long[] selection = noRows();
+        for (int i = 0; i < column.length; i++) {
+            if (restriction.satisfies(column[i])) {
+                selection[i / WORD_SIZE] |= 1L << i;
+            }
+        }
+        return selection;
+    }
+
+    // values of Equals or In equal to a boxed value of the column, i.e. the values of the wrapper type of the column
+    private static LongHashSet valuesOfType(FieldRestriction restriction, Class<?> type) {
+        Object[] values = restriction instanceof Equals ? new Object[] { ((Equals) restriction).getValue() }
+                : ((In) restriction).getValue();
+        LongHashSet result = new LongHashSet();
+        for (Object value : values) {
+            if (value != null && value.getClass() == type) {
+                result.add(type == Double.class ? Double.doubleToLongBits((Double) value) : (Long) value);
+            }
+        }
+        return result;
+    }
+
+    private long[] noRows() {
+        return new long[(size + WORD_SIZE - 1) / WORD_SIZE];
+    }
+
+    private long[] allRows() {
+        long[] selection = noRows();
+        for (int i = 0; i < selection.length; i++) {
+            selection[i] = -1L;
+        }
+        if (size % WORD_SIZE != 0) {
+            selection[selection.length - 1] = (1L << size) - 1;
+        }
+        return selection;
+    }
+}
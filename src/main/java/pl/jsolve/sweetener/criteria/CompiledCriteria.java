@@ -0,0 +1,432 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.Maps;
+import pl.jsolve.sweetener.core.Condition;
+import pl.jsolve.sweetener.core.FieldPath;
+import pl.jsolve.sweetener.core.Reflections;
+import pl.jsolve.sweetener.criteria.CriteriaMetrics.RestrictionCounters;
+import pl.jsolve.sweetener.criteria.restriction.AggregatedValues;
+import pl.jsolve.sweetener.criteria.restriction.And;
+import pl.jsolve.sweetener.criteria.restriction.Count;
+import pl.jsolve.sweetener.criteria.restriction.Or;
+
+/**
+ * Criteria prepared for objects of a single class. Every field path used by the restrictions is resolved once, so
+ * evaluating an object does not look the fields up again. Restrictions of the same field within one conjunction or
+ * disjunction are evaluated together, reading the field once, and their aggregations (sum, avg, min, max, count)
+ * walk the elements of the field once. Every restriction of the criteria is optimized on its own, so metrics are
+ * recorded for the restrictions added to the criteria rather than for their optimized forms. Instances are immutable
+ * and may be shared between threads as long as the restrictions themselves are.
+ */
+public class CompiledCriteria implements Condition<Object> {
+
+    private final Class<?> compiledClass;
+    private final CompiledRestriction[] restrictions;
+
+    CompiledCriteria(Class<?> compiledClass, List<Restriction> restrictions) {
+        this(compiledClass, compileCriteria(compiledClass, restrictions));
+    }
+
+    CompiledCriteria(Class<?> compiledClass, CompiledRestriction[] restrictions) {
+        this.compiledClass = compiledClass;
+        this.restrictions = restrictions;
+    }
+
+    public Class<?> getCompiledClass() {
+        return compiledClass;
+    }
+
+    public AdaptiveCriteria adaptive(int warmUpEvaluations) {
+        return new AdaptiveCriteria(compiledClass, restrictions, warmUpEvaluations);
+    }
+
+    CompiledRestriction[] getCompiledRestrictions() {
+        return restrictions;
+    }
+
+    @Override
+    public boolean isSatisfied(Object object) {
+        if (CriteriaMetrics.isEnabled()) {
+            return isSatisfiedRecording(restrictions, object);
+        }
+        for (CompiledRestriction restriction : restrictions) {
+            if (!restriction.satisfies(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isSatisfiedRecording(CompiledRestriction[] restrictions, Object object) {
+        for (CompiledRestriction restriction : restrictions) {
+            if (!restriction.satisfiesRecording(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void addSourceRestrictions(CompiledRestriction restriction, List<Restriction> sourceRestrictions) {
+        if (restriction instanceof CompiledFieldGroup) {
+            java.util.Collections.addAll(sourceRestrictions, ((CompiledFieldGroup) restriction).getRestrictions());
+        } else {
+            sourceRestrictions.add(restriction.getRestriction());
+        }
+    }
+
+    private static CompiledRestriction[] compileCriteria(Class<?> clazz, List<Restriction> restrictions) {
+        List<Restriction> optimizedRestrictions = Collections.newArrayListWithCapacity(restrictions.size());
+        for (Restriction restriction : restrictions) {
+            resolveFieldPaths(clazz, restriction);
+            Restriction optimizedRestriction = CriteriaOptimizer.optimize(restriction);
+            if (optimizedRestriction instanceof FieldRestriction && optimizedRestriction != restriction) {
+                // e.g. alternatives merged into In, kept apart from the field groups to be recorded as the source
+                optimizedRestriction = new And(optimizedRestriction);
+            }
+            optimizedRestrictions.add(optimizedRestriction);
+        }
+        return compile(clazz, optimizedRestrictions, restrictions, true);
+    }
+
+    // restrictions removed by the optimizer as never or always satisfied must still refer to existing fields
+    private static void resolveFieldPaths(Class<?> clazz, Restriction restriction) {
+        if (restriction instanceof FieldRestriction) {
+            Reflections.getFieldPath(clazz, ((FieldRestriction) restriction).getFieldName());
+        } else if (restriction instanceof And) {
+            for (Restriction child : ((And) restriction).getRestrictions()) {
+                resolveFieldPaths(clazz, child);
+            }
+        } else if (restriction instanceof Or) {
+            for (Restriction child : ((Or) restriction).getRestrictions()) {
+                resolveFieldPaths(clazz, child);
+            }
+        }
+    }
+
+    private static CompiledRestriction[] compile(Class<?> clazz, List<Restriction> restrictions, boolean conjunction) {
+        return compile(clazz, restrictions, restrictions, conjunction);
+    }
+
+    // compiled restrictions report the source restrictions, of which the given ones are the optimized forms
+    private static CompiledRestriction[] compile(Class<?> clazz, List<Restriction> restrictions,
+            List<Restriction> sourceRestrictions, boolean conjunction) {
+        Map<String, List<FieldRestriction>> restrictionsByField = groupByField(restrictions);
+        List<CompiledRestriction> compiledRestrictions = Collections.newArrayList();
+        for (int i = 0; i < restrictions.size(); i++) {
+            Restriction restriction = restrictions.get(i);
+            CompiledRestriction compiledRestriction;
+            if (restriction instanceof FieldRestriction) {
+                List<FieldRestriction> restrictionsOfField = restrictionsByField.get(((FieldRestriction) restriction)
+                        .getFieldName());
+                if (restrictionsOfField.get(0) != restriction) {
+                    // already compiled together with the first restriction of the field
+                    continue;
+                }
+                compiledRestriction = compileField(clazz, restrictionsOfField, conjunction);
+            } else {
+                compiledRestriction = compile(clazz, restriction, sourceRestrictions.get(i));
+            }
+            if (compiledRestriction != null) {
+                compiledRestrictions.add(compiledRestriction);
+            }
+        }
+        return compiledRestrictions.toArray(new CompiledRestriction[compiledRestrictions.size()]);
+    }
+
+    private static CompiledRestriction compileField(Class<?> clazz, List<FieldRestriction> restrictions,
+            boolean conjunction) {
+        FieldPath fieldPath = Reflections.getFieldPath(clazz, restrictions.get(0).getFieldName());
+        if (restrictions.size() > 1) {
+            return new CompiledFieldGroup(fieldPath, restrictions, conjunction);
+        }
+        FieldRestriction restriction = restrictions.get(0);
+        if (restriction instanceof NumericRestriction && fieldPath.isNumericPrimitive()) {
+            return new CompiledNumericRestriction(fieldPath, (NumericRestriction) restriction);
+        }
+        return new CompiledFieldRestriction(fieldPath, restriction);
+    }
+
+    private static CompiledRestriction compile(Class<?> clazz, Restriction restriction, Restriction sourceRestriction) {
+        if (restriction instanceof And) {
+            return new CompiledAnd(sourceRestriction, compile(clazz, ((And) restriction).getRestrictions(), true));
+        } else if (restriction instanceof Or) {
+            return new CompiledOr(sourceRestriction, compile(clazz, ((Or) restriction).getRestrictions(), false));
+        } else if (restriction instanceof ComplexRestriction) {
+            return new CompiledComplexRestriction(sourceRestriction);
+        }
+        return null;
+    }
+
+    private static Map<String, List<FieldRestriction>> groupByField(List<Restriction> restrictions) {
+        Map<String, List<FieldRestriction>> restrictionsByField = Maps.newHashMap();
+        for (Restriction restriction : restrictions) {
+            if (restriction instanceof FieldRestriction) {
+                FieldRestriction fieldRestriction = (FieldRestriction) restriction;
+                List<FieldRestriction> restrictionsOfField = restrictionsByField.get(fieldRestriction.getFieldName());
+                if (restrictionsOfField == null) {
+                    restrictionsOfField = Collections.newArrayList();
+                    restrictionsByField.put(fieldRestriction.getFieldName(), restrictionsOfField);
+                }
+                restrictionsOfField.add(fieldRestriction);
+            }
+        }
+        return restrictionsByField;
+    }
+
+    /**
+     * A compiled restriction recorded as a whole. Its counters are looked up when it is recorded for the first time.
+     */
+    private abstract static class RecordedRestriction implements CompiledRestriction {
+
+        private volatile RestrictionCounters counters;
+
+        @Override
+        public boolean satisfiesRecording(Object object) {
+            RestrictionCounters restrictionCounters = counters;
+            if (restrictionCounters == null) {
+                restrictionCounters = CriteriaMetrics.countersOf(getRestriction());
+                counters = restrictionCounters;
+            }
+            long start = System.nanoTime();
+            boolean satisfied = satisfies(object);
+            restrictionCounters.record(satisfied, System.nanoTime() - start);
+            return satisfied;
+        }
+    }
+
+    private static class CompiledFieldRestriction extends RecordedRestriction {
+
+        private final FieldPath fieldPath;
+        private final Restriction restriction;
+
+        CompiledFieldRestriction(FieldPath fieldPath, Restriction restriction) {
+            this.fieldPath = fieldPath;
+            this.restriction = restriction;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            return restriction.satisfies(fieldPath.getValue(object));
+        }
+    }
+
+    private static class CompiledNumericRestriction extends RecordedRestriction {
+
+        private final FieldPath fieldPath;
+        private final NumericRestriction restriction;
+
+        CompiledNumericRestriction(FieldPath fieldPath, NumericRestriction restriction) {
+            this.fieldPath = fieldPath;
+            this.restriction = restriction;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            return restriction.satisfies(fieldPath.getDoubleValue(object));
+        }
+    }
+
+    /**
+     * Restrictions of the same field within one conjunction or disjunction. The field is read once per object, as a
+     * double when all the restrictions are numeric and the field is primitive. Aggregations which walk the elements
+     * share the aggregated values, computed when the first of them is evaluated; count only asks for the size, so a
+     * group decided by counting never walks the elements.
+     */
+    private static class CompiledFieldGroup implements CompiledRestriction {
+
+        private final FieldPath fieldPath;
+        private final FieldRestriction[] restrictions;
+        private final boolean conjunction;
+        private final boolean numeric;
+        private final boolean sharedAggregations;
+        private final Restriction restriction;
+        private volatile RestrictionCounters[] counters;
+
+        CompiledFieldGroup(FieldPath fieldPath, List<FieldRestriction> restrictions, boolean conjunction) {
+            this.fieldPath = fieldPath;
+            this.restrictions = restrictions.toArray(new FieldRestriction[restrictions.size()]);
+            this.conjunction = conjunction;
+            this.numeric = fieldPath.isNumericPrimitive() && areNumeric(this.restrictions);
+            this.sharedAggregations = areWorthSharingAggregations(this.restrictions);
+            this.restriction = conjunction ? new And(this.restrictions) : new Or(this.restrictions);
+        }
+
+        private static boolean areNumeric(FieldRestriction[] restrictions) {
+            for (FieldRestriction restriction : restrictions) {
+                if (!(restriction instanceof NumericRestriction)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean areWorthSharingAggregations(FieldRestriction[] restrictions) {
+            int aggregations = 0;
+            int counts = 0;
+            for (FieldRestriction restriction : restrictions) {
+                if (restriction instanceof AggregationRestriction) {
+                    aggregations++;
+                    counts += restriction instanceof Count ? 1 : 0;
+                }
+            }
+            return aggregations - counts > 1;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            if (numeric) {
+                return satisfies(fieldPath.getDoubleValue(object));
+            }
+            Object fieldValue = fieldPath.getValue(object);
+            AggregatedValues aggregatedValues = null;
+            for (FieldRestriction restriction : restrictions) {
+                boolean satisfied;
+                if (sharedAggregations && fieldValue != null && restriction instanceof AggregationRestriction
+                        && !(restriction instanceof Count)) {
+                    if (aggregatedValues == null) {
+                        aggregatedValues = AggregatedValues.of(fieldValue);
+                    }
+                    satisfied = ((AggregationRestriction) restriction).satisfies(aggregatedValues);
+                } else {
+                    satisfied = restriction.satisfies(fieldValue);
+                }
+                if (satisfied != conjunction) {
+                    return satisfied;
+                }
+            }
+            return conjunction;
+        }
+
+        FieldRestriction[] getRestrictions() {
+            return restrictions;
+        }
+
+        /**
+         * Evaluates the restrictions one by one, recording each of them, in place of a single record of the group.
+         */
+        @Override
+        public boolean satisfiesRecording(Object object) {
+            RestrictionCounters[] restrictionCounters = counters;
+            if (restrictionCounters == null) {
+                restrictionCounters = CriteriaMetrics.countersOf(Arrays.<Restriction> asList(restrictions));
+                counters = restrictionCounters;
+            }
+            for (int i = 0; i < restrictions.length; i++) {
+                FieldRestriction restriction = restrictions[i];
+                long start = System.nanoTime();
+                boolean satisfied;
+                if (numeric) {
+                    satisfied = ((NumericRestriction) restriction).satisfies(fieldPath.getDoubleValue(object));
+                } else {
+                    satisfied = restriction.satisfies(fieldPath.getValue(object));
+                }
+                restrictionCounters[i].record(satisfied, System.nanoTime() - start);
+                if (satisfied != conjunction) {
+                    return satisfied;
+                }
+            }
+            return conjunction;
+        }
+
+        private boolean satisfies(double fieldValue) {
+            for (FieldRestriction restriction : restrictions) {
+                boolean satisfied = ((NumericRestriction) restriction).satisfies(fieldValue);
+                if (satisfied != conjunction) {
+                    return satisfied;
+                }
+            }
+            return conjunction;
+        }
+    }
+
+    private static class CompiledComplexRestriction extends RecordedRestriction {
+
+        private final Restriction restriction;
+
+        CompiledComplexRestriction(Restriction restriction) {
+            this.restriction = restriction;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            return restriction.satisfies(object);
+        }
+    }
+
+    private static class CompiledAnd extends RecordedRestriction {
+
+        private final Restriction restriction;
+        private final CompiledRestriction[] restrictions;
+
+        CompiledAnd(Restriction restriction, CompiledRestriction[] restrictions) {
+            this.restriction = restriction;
+            this.restrictions = restrictions;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            for (CompiledRestriction restriction : restrictions) {
+                if (!restriction.satisfies(object)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class CompiledOr extends RecordedRestriction {
+
+        private final Restriction restriction;
+        private final CompiledRestriction[] restrictions;
+
+        CompiledOr(Restriction restriction, CompiledRestriction[] restrictions) {
+            this.restriction = restriction;
+            this.restrictions = restrictions;
+        }
+
+        @Override
+        public Restriction getRestriction() {
+            return restriction;
+        }
+
+        @Override
+        public boolean satisfies(Object object) {
+            for (CompiledRestriction restriction : restrictions) {
+                if (restriction.satisfies(object)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
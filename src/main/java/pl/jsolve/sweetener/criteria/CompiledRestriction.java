@@ -0,0 +1,13 @@
+package pl.jsolve.sweetener.criteria;
+
+interface CompiledRestriction {
+
+    Restriction getRestriction();
+
+    boolean satisfies(Object object);
+
+    /**
+     * Evaluates the object as {@link #satisfies(Object)} does, recording the evaluation in {@link CriteriaMetrics}.
+     */
+    boolean satisfiesRecording(Object object);
+}
@@ -7,6 +7,7 @@ import pl.jsolve.sweetener.collection.Collections;
 public class Criteria {
 
     private final List<Restriction> restrictions = Collections.newArrayList();
+    private boolean sorted;
 
     private Criteria() {
     }
@@ -17,6 +18,7 @@ public class Criteria {
 
     public Criteria add(Restriction restriction) {
         restrictions.add(restriction);
+        sorted = false;
         return this;
     }
 
@@ -24,8 +26,19 @@ public class Criteria {
         return restrictions;
     }
 
+    public CompiledCriteria compile(Class<?> clazz) {
+        return new CompiledCriteria(clazz, getSortedRestrictions());
+    }
+
+    public Criteria optimize() {
+        return CriteriaOptimizer.optimize(this);
+    }
+
     public List<Restriction> getSortedRestrictions() {
-        sortByRestrictionLevel();
+        if (!sorted) {
+            sortByRestrictionLevel();
+            sorted = true;
+        }
         return restrictions;
     }
 
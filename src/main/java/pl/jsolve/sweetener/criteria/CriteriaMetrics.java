@@ -0,0 +1,210 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.core.FieldPathCacheStatistics;
+import pl.jsolve.sweetener.core.Reflections;
+
+/**
+ * Optional instrumentation of restriction evaluation. While enabled, filtering by criteria and compiled criteria
+ * records for every restriction the number of evaluations, how many of them were satisfied and the time spent in
+ * them, including reading the field. It is disabled by default, and then evaluation only reads a single flag per
+ * element. Restrictions are told apart by identity, so the same restriction used by several criteria is accounted
+ * once. Counters are held weakly, so the metrics of restrictions which are no longer used are dropped with them.
+ * Evaluators look the counters of a restriction up once and then only add to them, so recording takes no lock.
+ */
+public final class CriteriaMetrics {
+
+    public static final String OBJECT_NAME = "pl.jsolve.sweetener:type=CriteriaMetrics";
+
+    private static final Map<Restriction, RestrictionCounters> counters = java.util.Collections
+            .synchronizedMap(new WeakHashMap<Restriction, RestrictionCounters>());
+    private static volatile boolean enabled;
+    private static volatile FieldPathCacheStatistics lookupsAtReset = Reflections.getFieldPathCacheStatistics();
+
+    private CriteriaMetrics() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Zeroes the counters in place, so the counters already looked up by evaluators keep being reported.
+     */
+    public static void reset() {
+        synchronized (counters) {
+            for (RestrictionCounters restrictionCounters : counters.values()) {
+                restrictionCounters.reset();
+            }
+        }
+        lookupsAtReset = Reflections.getFieldPathCacheStatistics();
+    }
+
+    /**
+     * Records a single evaluation of the restriction. Called by the library while the metrics are enabled; custom
+     * evaluators may call it as well.
+     */
+    public static void record(Restriction restriction, boolean satisfied, long nanos) {
+        countersOf(restriction).record(satisfied, nanos);
+    }
+
+    /**
+     * Returns the counters of the restriction, registering it when it is used for the first time. Evaluators keep the
+     * counters and record every evaluation into them.
+     */
+    public static RestrictionCounters countersOf(Restriction restriction) {
+        synchronized (counters) {
+            RestrictionCounters restrictionCounters = counters.get(restriction);
+            if (restrictionCounters == null) {
+                restrictionCounters = new RestrictionCounters();
+                counters.put(restriction, restrictionCounters);
+            }
+            return restrictionCounters;
+        }
+    }
+
+    public static RestrictionCounters[] countersOf(List<Restriction> restrictions) {
+        RestrictionCounters[] result = new RestrictionCounters[restrictions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = countersOf(restrictions.get(i));
+        }
+        return result;
+    }
+
+    public static CriteriaMetricsSnapshot getSnapshot() {
+        List<RestrictionStatistics> restrictions = Collections.newArrayList();
+        synchronized (counters) {
+            for (Entry<Restriction, RestrictionCounters> entry : counters.entrySet()) {
+                if (entry.getValue().evaluations.get() > 0) {
+                    restrictions.add(entry.getValue().toStatistics(entry.getKey()));
+                }
+            }
+        }
+        FieldPathCacheStatistics lookups = Reflections.getFieldPathCacheStatistics();
+        FieldPathCacheStatistics initialLookups = lookupsAtReset;
+        // the cache is replaced together with the field accessor factory, which starts its counters from zero
+        if (lookups.getRequests() < initialLookups.getRequests()) {
+            initialLookups = new FieldPathCacheStatistics(0, 0);
+        }
+        return new CriteriaMetricsSnapshot(restrictions, new FieldPathCacheStatistics(lookups.getHits()
+                - initialLookups.getHits(), lookups.getMisses() - initialLookups.getMisses()));
+    }
+
+    public static ObjectName registerMBean() throws JMException {
+        return registerMBean(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public static ObjectName registerMBean(MBeanServer server) throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        server.registerMBean(new CriteriaMetricsBean(), name);
+        return name;
+    }
+
+    /**
+     * Counters of a single restriction, updated without locking.
+     */
+    public static final class RestrictionCounters {
+
+        private final AtomicLong evaluations = new AtomicLong();
+        private final AtomicLong satisfied = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+
+        RestrictionCounters() {
+        }
+
+        public void record(boolean isSatisfied, long elapsed) {
+            evaluations.incrementAndGet();
+            if (isSatisfied) {
+                satisfied.incrementAndGet();
+            }
+            nanos.addAndGet(elapsed);
+        }
+
+        void reset() {
+            evaluations.set(0);
+            satisfied.set(0);
+            nanos.set(0);
+        }
+
+        RestrictionStatistics toStatistics(Restriction restriction) {
+            return new RestrictionStatistics(restriction, evaluations.get(), satisfied.get(), nanos.get());
+        }
+    }
+
+    private static class CriteriaMetricsBean implements CriteriaMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return CriteriaMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (enabled) {
+                enable();
+            } else {
+                disable();
+            }
+        }
+
+        @Override
+        public void reset() {
+            CriteriaMetrics.reset();
+        }
+
+        @Override
+        public long getEvaluations() {
+            return getSnapshot().getEvaluations();
+        }
+
+        @Override
+        public long getSatisfied() {
+            return getSnapshot().getSatisfied();
+        }
+
+        @Override
+        public long getNanos() {
+            return getSnapshot().getNanos();
+        }
+
+        @Override
+        public long getFieldPathLookups() {
+            return getSnapshot().getFieldPathLookups().getRequests();
+        }
+
+        @Override
+        public long getFieldPathMisses() {
+            return getSnapshot().getFieldPathLookups().getMisses();
+        }
+
+        @Override
+        public String[] getRestrictions() {
+            List<RestrictionStatistics> restrictions = getSnapshot().getRestrictions();
+            String[] result = new String[restrictions.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = restrictions.get(i).toString();
+            }
+            return result;
+        }
+    }
+}
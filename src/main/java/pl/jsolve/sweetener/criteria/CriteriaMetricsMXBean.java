@@ -0,0 +1,23 @@
+package pl.jsolve.sweetener.criteria;
+
+public interface CriteriaMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    void reset();
+
+    long getEvaluations();
+
+    long getSatisfied();
+
+    long getNanos();
+
+    long getFieldPathLookups();
+
+    long getFieldPathMisses();
+
+    String[] getRestrictions();
+
+}
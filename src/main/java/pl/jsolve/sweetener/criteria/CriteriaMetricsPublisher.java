@@ -0,0 +1,11 @@
+package pl.jsolve.sweetener.criteria;
+
+/**
+ * Adapter of a metrics registry. The restriction is the name of the restriction the metric belongs to, or null for
+ * metrics which do not belong to any restriction.
+ */
+public interface CriteriaMetricsPublisher {
+
+    void publish(String metric, String restriction, long value);
+
+}
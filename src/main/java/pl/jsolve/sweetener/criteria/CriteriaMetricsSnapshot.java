@@ -0,0 +1,95 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import pl.jsolve.sweetener.core.FieldPathCacheStatistics;
+
+/**
+ * Metrics recorded since the last reset. The restrictions are sorted descending by the time spent evaluating them, so
+ * the restriction dominating the filtering time comes first.
+ */
+public class CriteriaMetricsSnapshot {
+
+    private final List<RestrictionStatistics> restrictions;
+    private final FieldPathCacheStatistics fieldPathLookups;
+
+    public CriteriaMetricsSnapshot(List<RestrictionStatistics> restrictions, FieldPathCacheStatistics fieldPathLookups) {
+        List<RestrictionStatistics> sortedRestrictions = new ArrayList<RestrictionStatistics>(restrictions);
+        Collections.sort(sortedRestrictions, new Comparator<RestrictionStatistics>() {
+
+            @Override
+            public int compare(RestrictionStatistics statistics1, RestrictionStatistics statistics2) {
+                return Long.compare(statistics2.getNanos(), statistics1.getNanos());
+            }
+        });
+        this.restrictions = Collections.unmodifiableList(sortedRestrictions);
+        this.fieldPathLookups = fieldPathLookups;
+    }
+
+    public List<RestrictionStatistics> getRestrictions() {
+        return restrictions;
+    }
+
+    public RestrictionStatistics getStatistics(Restriction restriction) {
+        for (RestrictionStatistics statistics : restrictions) {
+            if (statistics.getRestriction() == restriction) {
+                return statistics;
+            }
+        }
+        return new RestrictionStatistics(restriction, 0, 0, 0);
+    }
+
+    /**
+     * Lookups of field paths by name, where misses are the lookups which had to resolve the path using reflection.
+     */
+    public FieldPathCacheStatistics getFieldPathLookups() {
+        return fieldPathLookups;
+    }
+
+    public long getEvaluations() {
+        long evaluations = 0;
+        for (RestrictionStatistics statistics : restrictions) {
+            evaluations += statistics.getEvaluations();
+        }
+        return evaluations;
+    }
+
+    public long getSatisfied() {
+        long satisfied = 0;
+        for (RestrictionStatistics statistics : restrictions) {
+            satisfied += statistics.getSatisfied();
+        }
+        return satisfied;
+    }
+
+    public long getNanos() {
+        long nanos = 0;
+        for (RestrictionStatistics statistics : restrictions) {
+            nanos += statistics.getNanos();
+        }
+        return nanos;
+    }
+
+    /**
+     * Passes every metric to the publisher, so the snapshot can be exported to any metrics registry.
+     */
+    public void publishTo(CriteriaMetricsPublisher publisher) {
+        for (RestrictionStatistics statistics : restrictions) {
+            publisher.publish("restriction.evaluations", statistics.getName(), statistics.getEvaluations());
+            publisher.publish("restriction.satisfied", statistics.getName(), statistics.getSatisfied());
+            publisher.publish("restriction.rejected", statistics.getName(), statistics.getRejected());
+            publisher.publish("restriction.nanos", statistics.getName(), statistics.getNanos());
+        }
+        publisher.publish("fieldPath.lookups", null, fieldPathLookups.getRequests());
+        publisher.publish("fieldPath.misses", null, fieldPathLookups.getMisses());
+    }
+
+    @Override
+    public String toString() {
+        return "CriteriaMetricsSnapshot [restrictions=" + restrictions + ", fieldPathLookups=" + fieldPathLookups
+                + "]";
+    }
+}
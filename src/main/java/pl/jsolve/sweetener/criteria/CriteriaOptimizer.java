@@ -0,0 +1,165 @@
+package pl.jsolve.sweetener.criteria;
+
+import java.util.List;
+import java.util.Map;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.Maps;
+import pl.jsolve.sweetener.criteria.restriction.And;
+import pl.jsolve.sweetener.criteria.restriction.Equals;
+import pl.jsolve.sweetener.criteria.restriction.In;
+import pl.jsolve.sweetener.criteria.restriction.NotIn;
+import pl.jsolve.sweetener.criteria.restriction.Or;
+
+/**
+ * Rewrites restriction trees into equivalent, cheaper ones:
+ * <ul>
+ * <li>nested conjunctions and disjunctions are flattened,</li>
+ * <li>restrictions which are always satisfied (an empty And, NotIn without values) or never satisfied (an empty Or,
+ * In without values, Equals null) are removed from the conjunctions and disjunctions containing them, or decide their
+ * result,</li>
+ * <li>alternatives of Equals (and In) on the same field are merged into a single hashed In,</li>
+ * <li>restrictions which are neither field nor complex restrictions, skipped by And and Or, are removed.</li>
+ * </ul>
+ * An always satisfied tree is represented by an empty And and a never satisfied one by an empty Or. Restrictions which
+ * are not rewritten are kept as they are.
+ */
+public final class CriteriaOptimizer {
+
+    private CriteriaOptimizer() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    public static Criteria optimize(Criteria criteria) {
+        Restriction optimized = optimizeAll(criteria.getRestrictions());
+        Criteria optimizedCriteria = Criteria.newCriteria();
+        if (optimized instanceof And) {
+            for (Restriction restriction : ((And) optimized).getRestrictions()) {
+                optimizedCriteria.add(restriction);
+            }
+        } else {
+            optimizedCriteria.add(optimized);
+        }
+        return optimizedCriteria;
+    }
+
+    public static Restriction optimize(Restriction restriction) {
+        if (restriction instanceof And) {
+            return optimizeAll(((And) restriction).getRestrictions());
+        } else if (restriction instanceof Or) {
+            return optimizeAny(((Or) restriction).getRestrictions());
+        }
+        return restriction;
+    }
+
+    private static Restriction optimizeAll(List<Restriction> restrictions) {
+        List<Restriction> optimized = Collections.newArrayList();
+        for (Restriction restriction : flatten(restrictions, true)) {
+            if (isNeverSatisfied(restriction)) {
+                return never();
+            } else if (!isAlwaysSatisfied(restriction)) {
+                optimized.add(restriction);
+            }
+        }
+        return optimized.size() == 1 ? optimized.get(0) : new And(toArray(optimized));
+    }
+
+    private static Restriction optimizeAny(List<Restriction> restrictions) {
+        List<Restriction> optimized = Collections.newArrayList();
+        for (Restriction restriction : flatten(restrictions, false)) {
+            if (isAlwaysSatisfied(restriction)) {
+                return always();
+            } else if (!isNeverSatisfied(restriction)) {
+                optimized.add(restriction);
+            }
+        }
+        optimized = mergeEquals(optimized);
+        return optimized.size() == 1 ? optimized.get(0) : new Or(toArray(optimized));
+    }
+
+    // optimized children, with the children of nested restrictions of the same kind pulled up
+    private static List<Restriction> flatten(List<Restriction> restrictions, boolean conjunction) {
+        List<Restriction> flattened = Collections.newArrayList();
+        for (Restriction restriction : restrictions) {
+            if (!(restriction instanceof FieldRestriction) && !(restriction instanceof ComplexRestriction)) {
+                continue;
+            }
+            Restriction optimized = optimize(restriction);
+            if (conjunction && optimized instanceof And && !isAlwaysSatisfied(optimized)) {
+                flattened.addAll(((And) optimized).getRestrictions());
+            } else if (!conjunction && optimized instanceof Or && !isNeverSatisfied(optimized)) {
+                flattened.addAll(((Or) optimized).getRestrictions());
+            } else {
+                flattened.add(optimized);
+            }
+        }
+        return flattened;
+    }
+
+    private static List<Restriction> mergeEquals(List<Restriction> alternatives) {
+        Map<String, List<Restriction>> mergeableByField = Maps.newHashMap();
+        for (Restriction restriction : alternatives) {
+            if (isMergeable(restriction)) {
+                String fieldName = ((FieldRestriction) restriction).getFieldName();
+                List<Restriction> mergeable = mergeableByField.get(fieldName);
+                if (mergeable == null) {
+                    mergeable = Collections.newArrayList();
+                    mergeableByField.put(fieldName, mergeable);
+                }
+                mergeable.add(restriction);
+            }
+        }
+
+        List<Restriction> merged = Collections.newArrayList();
+        for (Restriction restriction : alternatives) {
+            List<Restriction> mergeable = isMergeable(restriction) ? mergeableByField.get(((FieldRestriction) restriction)
+                    .getFieldName()) : null;
+            if (mergeable == null || mergeable.size() < 2) {
+                merged.add(restriction);
+            } else if (mergeable.get(0) == restriction) {
+                merged.add(new In(((FieldRestriction) restriction).getFieldName(), valuesOf(mergeable)));
+            }
+        }
+        return merged;
+    }
+
+    // Equals ignoring case has no hashed counterpart
+    private static boolean isMergeable(Restriction restriction) {
+        return restriction instanceof In || (restriction instanceof Equals && !((Equals) restriction).getIgnoreCase());
+    }
+
+    private static Object[] valuesOf(List<Restriction> restrictions) {
+        List<Object> values = Collections.newArrayList();
+        for (Restriction restriction : restrictions) {
+            if (restriction instanceof Equals) {
+                values.add(((Equals) restriction).getValue());
+            } else {
+                java.util.Collections.addAll(values, ((In) restriction).getValue());
+            }
+        }
+        return values.toArray();
+    }
+
+    private static boolean isAlwaysSatisfied(Restriction restriction) {
+        return restriction instanceof And && ((And) restriction).getRestrictions().isEmpty()
+                || restriction instanceof NotIn && ((NotIn) restriction).getValue().length == 0;
+    }
+
+    private static boolean isNeverSatisfied(Restriction restriction) {
+        return restriction instanceof Or && ((Or) restriction).getRestrictions().isEmpty()
+                || restriction instanceof In && ((In) restriction).getValue().length == 0
+                || restriction instanceof Equals && ((Equals) restriction).getValue() == null;
+    }
+
+    private static Restriction always() {
+        return new And();
+    }
+
+    private static Restriction never() {
+        return new Or();
+    }
+
+    private static Restriction[] toArray(List<Restriction> restrictions) {
+        return restrictions.toArray(new Restriction[restrictions.size()]);
+    }
+}
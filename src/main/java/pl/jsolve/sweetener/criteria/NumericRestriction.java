@@ -0,0 +1,11 @@
+package pl.jsolve.sweetener.criteria;
+
+/**
+ * Field restriction comparing a single number. Compiled criteria call {@link #satisfies(double)} directly for fields
+ * of primitive numeric types, so their values are never boxed.
+ */
+public interface NumericRestriction extends FieldRestriction {
+
+    public boolean satisfies(double fieldValue);
+
+}
@@ -0,0 +1,61 @@
+package pl.jsolve.sweetener.criteria;
+
+public class RestrictionStatistics {
+
+    private final Restriction restriction;
+    private final long evaluations;
+    private final long satisfied;
+    private final long nanos;
+
+    public RestrictionStatistics(Restriction restriction, long evaluations, long satisfied, long nanos) {
+        this.restriction = restriction;
+        this.evaluations = evaluations;
+        this.satisfied = satisfied;
+        this.nanos = nanos;
+    }
+
+    public Restriction getRestriction() {
+        return restriction;
+    }
+
+    public String getName() {
+        String name = restriction.getClass().getSimpleName();
+        if (name.isEmpty()) {
+            name = restriction.getClass().getName();
+        }
+        if (restriction instanceof FieldRestriction) {
+            return name + "(" + ((FieldRestriction) restriction).getFieldName() + ")";
+        }
+        return name;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getSatisfied() {
+        return satisfied;
+    }
+
+    public long getRejected() {
+        return evaluations - satisfied;
+    }
+
+    public double getSatisfiedRate() {
+        return evaluations == 0 ? 0.0 : (double) satisfied / evaluations;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public double getAverageNanos() {
+        return evaluations == 0 ? 0.0 : (double) nanos / evaluations;
+    }
+
+    @Override
+    public String toString() {
+        return "RestrictionStatistics [name=" + getName() + ", evaluations=" + evaluations + ", satisfied="
+                + satisfied + ", nanos=" + nanos + "]";
+    }
+}
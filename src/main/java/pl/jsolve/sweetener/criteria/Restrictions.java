@@ -2,6 +2,7 @@ package pl.jsolve.sweetener.criteria;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import pl.jsolve.sweetener.criteria.restriction.After;
 import pl.jsolve.sweetener.criteria.restriction.AggregationRange;
@@ -20,6 +21,7 @@ import pl.jsolve.sweetener.criteria.restriction.In;
 import pl.jsolve.sweetener.criteria.restriction.Less;
 import pl.jsolve.sweetener.criteria.restriction.LessOrEquals;
 import pl.jsolve.sweetener.criteria.restriction.Like;
+import pl.jsolve.sweetener.criteria.restriction.Matches;
 import pl.jsolve.sweetener.criteria.restriction.Max;
 import pl.jsolve.sweetener.criteria.restriction.Min;
 import pl.jsolve.sweetener.criteria.restriction.NotBetween;
@@ -31,6 +33,7 @@ import pl.jsolve.sweetener.criteria.restriction.NotNull;
 import pl.jsolve.sweetener.criteria.restriction.Null;
 import pl.jsolve.sweetener.criteria.restriction.Or;
 import pl.jsolve.sweetener.criteria.restriction.Sum;
+import pl.jsolve.sweetener.criteria.restriction.Wildcard;
 
 public class Restrictions {
 
@@ -106,10 +109,34 @@ public class Restrictions {
         return new Like(field, value);
     }
 
+    public static Restriction like(String field, String value, boolean ignoreCase) {
+        return new Like(field, value, ignoreCase);
+    }
+
     public static Restriction notLike(String field, String value) {
         return new NotLike(field, value);
     }
 
+    public static Restriction notLike(String field, String value, boolean ignoreCase) {
+        return new NotLike(field, value, ignoreCase);
+    }
+
+    public static Restriction wildcard(String field, String pattern) {
+        return new Wildcard(field, pattern);
+    }
+
+    public static Restriction wildcard(String field, String pattern, boolean ignoreCase) {
+        return new Wildcard(field, pattern, ignoreCase);
+    }
+
+    public static Restriction matches(String field, String regex) {
+        return new Matches(field, regex);
+    }
+
+    public static Restriction matches(String field, Pattern pattern) {
+        return new Matches(field, pattern);
+    }
+
     public static Restriction contains(String field, Object... values) {
         return new Contains(field, true, values);
     }
@@ -0,0 +1,96 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+import java.util.Collection;
+import java.util.Map;
+
+import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+/**
+ * Count, sum, minimum and maximum of the numbers of a collection or an array, computed in a single pass. The minimum
+ * and the maximum of no numbers are {@link Double#MAX_VALUE} and {@link Double#MIN_VALUE}, as in {@link Min} and
+ * {@link Max}.
+ */
+public final class AggregatedValues {
+
+    private int count;
+    private double sum;
+    private double min = Double.MAX_VALUE;
+    private double max = Double.MIN_VALUE;
+
+    private AggregatedValues() {
+    }
+
+    public static AggregatedValues of(Object elements) {
+        final AggregatedValues values = new AggregatedValues();
+        if (PrimitiveArrays.isNumericArray(elements)) {
+            values.count = PrimitiveArrays.length(elements);
+            values.sum = PrimitiveArrays.sum(elements);
+            values.min = PrimitiveArrays.min(elements, values.min);
+            values.max = PrimitiveArrays.max(elements, values.max);
+            return values;
+        }
+        new CollectionExecutor().perform(elements, new Executor() {
+
+            @Override
+            public boolean execute(Object[] elements) {
+                for (Object element : elements) {
+                    values.add(element);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean execute(Collection elements) {
+                for (Object element : elements) {
+                    values.add(element);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean execute(Map elements) {
+                throw new AccessToFieldException("Type mismatch. Expected List, Set or Array but was "
+                        + elements.getClass().getCanonicalName());
+            }
+        });
+        return values;
+    }
+
+    private void add(Object element) {
+        if (!(element instanceof Number)) {
+            throw new AccessToFieldException("Type mismatch. Expected Number but was "
+                    + element.getClass().getCanonicalName());
+        }
+        double value = ((Number) element).doubleValue();
+        count++;
+        sum += value;
+        if (min > value) {
+            min = value;
+        }
+        if (max < value) {
+            max = value;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        double avg = sum / count;
+        return Double.isNaN(avg) ? 0 : avg;
+    }
+}
@@ -16,6 +16,10 @@ public class And implements ComplexRestriction {
         this.restrictions = Collections.newArrayList(restrictions);
     }
 
+    public List<Restriction> getRestrictions() {
+        return restrictions;
+    }
+
     @Override
     public RestrictionLevel getRestrictionLevel() {
         return RestrictionLevel.HIGH;
@@ -3,11 +3,11 @@ package pl.jsolve.sweetener.criteria.restriction;
 import java.util.Collection;
 import java.util.Map;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.AggregationRestriction;
 import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Avg implements FieldRestriction {
+public class Avg implements AggregationRestriction {
 
     private final static Double DELTA = 0.000001;
     private final String fieldName;
@@ -42,6 +42,10 @@ public class Avg implements FieldRestriction {
             return false;
         }
 
+        if (PrimitiveArrays.isNumericArray(fieldValue)) {
+            return checkAvg(PrimitiveArrays.sum(fieldValue), PrimitiveArrays.length(fieldValue));
+        }
+
         CollectionExecutor executor = new CollectionExecutor();
         return executor.perform(fieldValue, new Executor() {
 
@@ -63,6 +67,11 @@ public class Avg implements FieldRestriction {
         });
     }
 
+    @Override
+    public boolean satisfies(AggregatedValues values) {
+        return checkAvg(values.getSum(), values.getCount());
+    }
+
     private boolean forArray(Object[] fieldValueAsArray) {
         double sum = 0.0;
         for (int i = 0; i < fieldValueAsArray.length; i++) {
@@ -72,11 +81,7 @@ public class Avg implements FieldRestriction {
             }
             sum += ((Number) fieldValueAsArray[i]).doubleValue();
         }
-        double avg = sum / fieldValueAsArray.length;
-        if (Double.isNaN(avg)) {
-            avg = 0;
-        }
-        return checkAvg(avg);
+        return checkAvg(sum, fieldValueAsArray.length);
     }
 
     private boolean forCollection(Collection<?> fieldValueAsCollection) {
@@ -88,14 +93,14 @@ public class Avg implements FieldRestriction {
             }
             sum += ((Number) o).doubleValue();
         }
-        double avg = sum / fieldValueAsCollection.size();
+        return checkAvg(sum, fieldValueAsCollection.size());
+    }
+
+    private boolean checkAvg(double sum, int count) {
+        double avg = sum / count;
         if (Double.isNaN(avg)) {
             avg = 0;
         }
-        return checkAvg(avg);
-    }
-
-    private boolean checkAvg(double avg) {
         switch (aggregationRange) {
         case LESS:
             return avg < leftRange;
@@ -24,15 +24,15 @@ class CollectionExecutor {
         } else
         // check whether elements are array
         if (elements.getClass().isArray()) {
-            Object[] fieldValueAsArray = null;
-            try {
-                // check whether elements are array of objects
+            Object[] fieldValueAsArray;
+            // check whether elements are array of objects
+            if (elements instanceof Object[]) {
                 fieldValueAsArray = (Object[]) elements;
-            } catch (ClassCastException ex) {
-                // exception is thrown for array of primitives. Rewrite primitives to objects
+            } else {
+                // array of primitives. Rewrite primitives to objects
                 int length = Array.getLength(elements);
                 fieldValueAsArray = new Object[length];
-                for (int i = 0; i < Array.getLength(elements); ++i) {
+                for (int i = 0; i < length; ++i) {
                     fieldValueAsArray[i] = Array.get(elements, i);
                 }
             }
@@ -4,11 +4,11 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.AggregationRestriction;
 import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Count implements FieldRestriction {
+public class Count implements AggregationRestriction {
 
     private final String fieldName;
     private final Integer leftRange;
@@ -38,6 +38,10 @@ public class Count implements FieldRestriction {
             return false;
         }
 
+        if (PrimitiveArrays.isNumericArray(fieldValue)) {
+            return checkCount(PrimitiveArrays.length(fieldValue));
+        }
+
         CollectionExecutor executor = new CollectionExecutor();
         return executor.perform(fieldValue, new Executor() {
 
@@ -59,6 +63,11 @@ public class Count implements FieldRestriction {
         });
     }
 
+    @Override
+    public boolean satisfies(AggregatedValues values) {
+        return checkCount(values.getCount());
+    }
+
     private boolean forArray(Object[] fieldValueAsArray) {
         return checkCount(fieldValueAsArray.length);
     }
@@ -6,16 +6,12 @@ public class In implements FieldRestriction {
 
     private final String fieldName;
     private final Object[] values;
-    private boolean containsNull;
+    private final ValueSet valueSet;
 
     public In(String fieldName, Object[] values) {
         this.fieldName = fieldName;
         this.values = values;
-        for (Object o : values) {
-            if (o == null) {
-                containsNull = true;
-            }
-        }
+        this.valueSet = new ValueSet(values);
     }
 
     @Override
@@ -34,19 +30,7 @@ public class In implements FieldRestriction {
 
     @Override
     public boolean satisfies(Object fieldValue) {
-        if (fieldValue == null) {
-            if (containsNull) {
-                return true;
-            }
-            return false;
-        }
-
-        for (Object o : values) {
-            if (fieldValue.equals(o)) {
-                return true;
-            }
-        }
-        return false;
+        return valueSet.contains(fieldValue);
     }
 
 }
@@ -1,16 +1,18 @@
 package pl.jsolve.sweetener.criteria.restriction;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.NumericRestriction;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Less implements FieldRestriction {
+public class Less implements NumericRestriction {
 
     private final String fieldName;
     private final Number value;
+    private final double doubleValue;
 
     public Less(String fieldName, Number value) {
         this.fieldName = fieldName;
         this.value = value;
+        this.doubleValue = value.doubleValue();
     }
 
     @Override
@@ -34,8 +36,13 @@ public class Less implements FieldRestriction {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
                         + fieldValue.getClass().getCanonicalName());
             }
-            return ((Number) fieldValue).doubleValue() < value.doubleValue();
+            return satisfies(((Number) fieldValue).doubleValue());
         }
         return false;
     }
+
+    @Override
+    public boolean satisfies(double fieldValue) {
+        return fieldValue < doubleValue;
+    }
 }
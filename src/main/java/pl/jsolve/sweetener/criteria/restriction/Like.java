@@ -8,17 +8,20 @@ public class Like implements FieldRestriction {
     private final String fieldName;
     private final String value;
     private final boolean ignoreCase;
+    private final SubstringSearch search;
 
     public Like(String fieldName, String value) {
         this.fieldName = fieldName;
         this.value = value;
         this.ignoreCase = false;
+        this.search = createSearch(value, false);
     }
 
     public Like(String fieldName, String value, boolean ignoreCase) {
         this.fieldName = fieldName;
         this.value = value;
         this.ignoreCase = ignoreCase;
+        this.search = createSearch(value, ignoreCase);
     }
 
     @Override
@@ -52,9 +55,10 @@ public class Like implements FieldRestriction {
     }
 
     private boolean satisfiesString(String fieldValue) {
-        if (ignoreCase) {
-            return fieldValue.toLowerCase().contains(value.toLowerCase());
-        }
-        return fieldValue.contains(value);
+        return search.isFoundIn(fieldValue);
+    }
+
+    private static SubstringSearch createSearch(String value, boolean ignoreCase) {
+        return value == null ? null : new SubstringSearch(value, ignoreCase);
     }
 }
@@ -0,0 +1,82 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+import java.util.regex.Pattern;
+
+import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+/**
+ * Regular expression which has to match the whole value. The expression is compiled once; when it starts with literal
+ * characters (and has no flags nor alternatives), values not starting with them are rejected without running the
+ * matcher, and an expression without any metacharacter is compared with equals.
+ */
+public class Matches implements FieldRestriction {
+
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+    private static final String QUANTIFIERS = "*+?{";
+
+    private final String fieldName;
+    private final Pattern pattern;
+    private final String literalPrefix;
+    private final boolean literal;
+
+    public Matches(String fieldName, String regex) {
+        this(fieldName, Pattern.compile(regex));
+    }
+
+    public Matches(String fieldName, Pattern pattern) {
+        this.fieldName = fieldName;
+        this.pattern = pattern;
+        this.literalPrefix = findLiteralPrefix(pattern);
+        this.literal = literalPrefix.length() == pattern.pattern().length();
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public RestrictionLevel getRestrictionLevel() {
+        return RestrictionLevel.LOW;
+    }
+
+    @Override
+    public boolean satisfies(Object fieldValue) {
+        if (fieldValue != null) {
+            if (!(fieldValue instanceof String)) {
+                throw new AccessToFieldException("Type mismatch. Expected String but was "
+                        + fieldValue.getClass().getCanonicalName());
+            }
+            return satisfiesString((String) fieldValue);
+        }
+        return false;
+    }
+
+    private boolean satisfiesString(String fieldValue) {
+        if (literal) {
+            return fieldValue.equals(literalPrefix);
+        }
+        return fieldValue.startsWith(literalPrefix) && pattern.matcher(fieldValue).matches();
+    }
+
+    private static String findLiteralPrefix(Pattern pattern) {
+        String regex = pattern.pattern();
+        if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+            return "";
+        }
+        int length = 0;
+        while (length < regex.length() && METACHARACTERS.indexOf(regex.charAt(length)) < 0) {
+            length++;
+        }
+        // a quantifier applies to the last literal character, which therefore may not occur
+        if (length > 0 && length < regex.length() && QUANTIFIERS.indexOf(regex.charAt(length)) >= 0) {
+            length--;
+        }
+        return regex.substring(0, length);
+    }
+}
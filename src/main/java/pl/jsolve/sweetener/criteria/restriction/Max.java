@@ -3,11 +3,11 @@ package pl.jsolve.sweetener.criteria.restriction;
 import java.util.Collection;
 import java.util.Map;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.AggregationRestriction;
 import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Max implements FieldRestriction {
+public class Max implements AggregationRestriction {
 
     private final static Double DELTA = 0.000001;
 
@@ -39,6 +39,10 @@ public class Max implements FieldRestriction {
             return false;
         }
 
+        if (PrimitiveArrays.isNumericArray(fieldValue)) {
+            return checkMax(PrimitiveArrays.max(fieldValue, Double.MIN_VALUE));
+        }
+
         CollectionExecutor executor = new CollectionExecutor();
         return executor.perform(fieldValue, new Executor() {
 
@@ -60,8 +64,13 @@ public class Max implements FieldRestriction {
         });
     }
 
+    @Override
+    public boolean satisfies(AggregatedValues values) {
+        return checkMax(values.getMax());
+    }
+
     private boolean forArray(Object[] fieldValueAsArray) {
-        Double maxValue = Double.MIN_VALUE;
+        double maxValue = Double.MIN_VALUE;
         for (int i = 0; i < fieldValueAsArray.length; i++) {
             if (!(fieldValueAsArray[i] instanceof Number)) {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
@@ -76,7 +85,7 @@ public class Max implements FieldRestriction {
     }
 
     private boolean forCollection(Collection<?> fieldValueAsCollection) {
-        Double maxValue = Double.MIN_VALUE;
+        double maxValue = Double.MIN_VALUE;
         for (Object o : fieldValueAsCollection) {
             if (!(o instanceof Number)) {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
@@ -90,7 +99,7 @@ public class Max implements FieldRestriction {
         return checkMax(maxValue);
     }
 
-    private boolean checkMax(Double maxValue) {
+    private boolean checkMax(double maxValue) {
         switch (aggregationRange) {
         case LESS:
             return maxValue < leftRange.doubleValue();
@@ -3,11 +3,11 @@ package pl.jsolve.sweetener.criteria.restriction;
 import java.util.Collection;
 import java.util.Map;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.AggregationRestriction;
 import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Min implements FieldRestriction {
+public class Min implements AggregationRestriction {
 
     private final static Double DELTA = 0.000001;
 
@@ -39,6 +39,10 @@ public class Min implements FieldRestriction {
             return false;
         }
 
+        if (PrimitiveArrays.isNumericArray(fieldValue)) {
+            return checkMin(PrimitiveArrays.min(fieldValue, Double.MAX_VALUE));
+        }
+
         CollectionExecutor executor = new CollectionExecutor();
         return executor.perform(fieldValue, new Executor() {
 
@@ -60,8 +64,13 @@ public class Min implements FieldRestriction {
         });
     }
 
+    @Override
+    public boolean satisfies(AggregatedValues values) {
+        return checkMin(values.getMin());
+    }
+
     private boolean forArray(Object[] fieldValueAsArray) {
-        Double minValue = Double.MAX_VALUE;
+        double minValue = Double.MAX_VALUE;
         for (int i = 0; i < fieldValueAsArray.length; i++) {
             if (!(fieldValueAsArray[i] instanceof Number)) {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
@@ -76,7 +85,7 @@ public class Min implements FieldRestriction {
     }
 
     private boolean forCollection(Collection<?> fieldValueAsCollection) {
-        Double minValue = Double.MAX_VALUE;
+        double minValue = Double.MAX_VALUE;
         for (Object o : fieldValueAsCollection) {
             if (!(o instanceof Number)) {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
@@ -90,7 +99,7 @@ public class Min implements FieldRestriction {
         return checkMin(minValue);
     }
 
-    private boolean checkMin(Double minValue) {
+    private boolean checkMin(double minValue) {
         switch (aggregationRange) {
         case LESS:
             return minValue < leftRange.doubleValue();
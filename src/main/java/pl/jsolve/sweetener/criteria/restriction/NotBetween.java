@@ -1,14 +1,16 @@
 package pl.jsolve.sweetener.criteria.restriction;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.NumericRestriction;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 import pl.jsolve.sweetener.exception.InvalidArgumentException;
 
-public class NotBetween implements FieldRestriction {
+public class NotBetween implements NumericRestriction {
 
     private final String fieldName;
     private final Number minValue;
     private final Number maxValue;
+    private final double minDoubleValue;
+    private final double maxDoubleValue;
     private final boolean leftInclusive;
     private final boolean rightInclusive;
 
@@ -17,6 +19,8 @@ public class NotBetween implements FieldRestriction {
         this.fieldName = fieldName;
         this.minValue = minValue;
         this.maxValue = maxValue;
+        this.minDoubleValue = minValue.doubleValue();
+        this.maxDoubleValue = maxValue.doubleValue();
         this.leftInclusive = true;
         this.rightInclusive = true;
     }
@@ -26,6 +30,8 @@ public class NotBetween implements FieldRestriction {
         this.fieldName = fieldName;
         this.minValue = minValue;
         this.maxValue = maxValue;
+        this.minDoubleValue = minValue.doubleValue();
+        this.maxDoubleValue = maxValue.doubleValue();
         this.leftInclusive = leftInclusive;
         this.rightInclusive = rightInclusive;
     }
@@ -75,25 +81,15 @@ public class NotBetween implements FieldRestriction {
                 throw new AccessToFieldException("Type mismatch. Expected Number but was "
                         + fieldValue.getClass().getCanonicalName());
             }
-            if (leftInclusive) {
-                if (rightInclusive) {
-                    return !(((Number) fieldValue).doubleValue() >= minValue.doubleValue() && ((Number) fieldValue)
-                            .doubleValue() <= maxValue.doubleValue());
-                } else {
-                    return !(((Number) fieldValue).doubleValue() >= minValue.doubleValue() && ((Number) fieldValue)
-                            .doubleValue() < maxValue.doubleValue());
-                }
-
-            } else {
-                if (rightInclusive) {
-                    return !(((Number) fieldValue).doubleValue() > minValue.doubleValue() && ((Number) fieldValue)
-                            .doubleValue() <= maxValue.doubleValue());
-                } else {
-                    return !(((Number) fieldValue).doubleValue() > minValue.doubleValue() && ((Number) fieldValue)
-                            .doubleValue() < maxValue.doubleValue());
-                }
-            }
+            return satisfies(((Number) fieldValue).doubleValue());
         }
         return false;
     }
+
+    @Override
+    public boolean satisfies(double fieldValue) {
+        boolean aboveMinValue = leftInclusive ? fieldValue >= minDoubleValue : fieldValue > minDoubleValue;
+        boolean belowMaxValue = rightInclusive ? fieldValue <= maxDoubleValue : fieldValue < maxDoubleValue;
+        return !(aboveMinValue && belowMaxValue);
+    }
 }
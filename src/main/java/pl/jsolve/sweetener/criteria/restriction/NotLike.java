@@ -8,17 +8,20 @@ public class NotLike implements FieldRestriction {
     private final String fieldName;
     private final Object value;
     private final boolean ignoreCase;
+    private final SubstringSearch search;
 
     public NotLike(String fieldName, Object value) {
         this.fieldName = fieldName;
         this.value = value;
         this.ignoreCase = false;
+        this.search = createSearch(value, false);
     }
 
     public NotLike(String fieldName, Object value, boolean ignoreCase) {
         this.fieldName = fieldName;
         this.value = value;
         this.ignoreCase = ignoreCase;
+        this.search = createSearch(value, ignoreCase);
     }
 
     @Override
@@ -52,9 +55,10 @@ public class NotLike implements FieldRestriction {
     }
 
     private boolean satisfiesString(String fieldValue) {
-        if (ignoreCase) {
-            return fieldValue.toLowerCase().contains(((String) value).toLowerCase());
-        }
-        return fieldValue.contains((String) value);
+        return search.isFoundIn(fieldValue);
+    }
+
+    private static SubstringSearch createSearch(Object value, boolean ignoreCase) {
+        return value == null ? null : new SubstringSearch((String) value, ignoreCase);
     }
 }
@@ -17,6 +17,10 @@ public class Or implements ComplexRestriction {
         this.restrictions = Collections.newArrayList(restrictions);
     }
 
+    public List<Restriction> getRestrictions() {
+        return restrictions;
+    }
+
     @Override
     public RestrictionLevel getRestrictionLevel() {
         return RestrictionLevel.HIGH;
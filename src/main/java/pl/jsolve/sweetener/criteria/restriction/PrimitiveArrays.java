@@ -0,0 +1,247 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+/**
+ * Aggregations over arrays of primitive numbers, computed in place instead of copying the elements to an array of
+ * wrappers. Minimum and maximum of int, long and double arrays, and sums of int arrays, keep four independent
+ * accumulators (lanes), which are combined at the end, so consecutive iterations do not wait for each other and the JIT
+ * compiler can keep them in vector registers. Only the sums of int values are exact in a long, which gives the sum of
+ * the values added one by one to a double as long as it does not exceed 2^53. Long and double values are summed in
+ * order, as the values of wrappers are, because splitting floating-point sums into lanes would change their rounding.
+ */
+final class PrimitiveArrays {
+
+    private static final int LANES = 4;
+
+    private PrimitiveArrays() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    static boolean isNumericArray(Object object) {
+        return object instanceof int[] || object instanceof long[] || object instanceof double[]
+                || object instanceof float[] || object instanceof short[] || object instanceof byte[];
+    }
+
+    static int length(Object array) {
+        if (array instanceof int[]) {
+            return ((int[]) array).length;
+        } else if (array instanceof long[]) {
+            return ((long[]) array).length;
+        } else if (array instanceof double[]) {
+            return ((double[]) array).length;
+        } else if (array instanceof float[]) {
+            return ((float[]) array).length;
+        } else if (array instanceof short[]) {
+            return ((short[]) array).length;
+        }
+        return ((byte[]) array).length;
+    }
+
+    static double sum(Object array) {
+        if (array instanceof int[]) {
+            return sum((int[]) array);
+        } else if (array instanceof long[]) {
+            return sum((long[]) array);
+        } else if (array instanceof double[]) {
+            return sum((double[]) array);
+        }
+        double sum = 0.0;
+        for (int i = 0, length = length(array); i < length; i++) {
+            sum += get(array, i);
+        }
+        return sum;
+    }
+
+    private static double sum(int[] array) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (int end = array.length - LANES + 1; i < end; i += LANES) {
+            sum0 += array[i];
+            sum1 += array[i + 1];
+            sum2 += array[i + 2];
+            sum3 += array[i + 3];
+        }
+        for (; i < array.length; i++) {
+            sum0 += array[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    private static double sum(long[] array) {
+        double sum = 0.0;
+        for (long value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static double sum(double[] array) {
+        double sum = 0.0;
+        for (double value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    // NaN never replaces the current value, as in the loops over wrappers
+    static double max(Object array, double initialValue) {
+        double max;
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            if (values.length == 0) {
+                return initialValue;
+            }
+            max = maxOf(values);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            if (values.length == 0) {
+                return initialValue;
+            }
+            max = maxOf(values);
+        } else if (array instanceof double[]) {
+            max = maxOf((double[]) array, initialValue);
+        } else {
+            max = initialValue;
+            for (int i = 0, length = length(array); i < length; i++) {
+                double value = get(array, i);
+                max = max < value ? value : max;
+            }
+        }
+        return initialValue < max ? max : initialValue;
+    }
+
+    // NaN never replaces the current value, as in the loops over wrappers
+    static double min(Object array, double initialValue) {
+        double min;
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            if (values.length == 0) {
+                return initialValue;
+            }
+            min = minOf(values);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            if (values.length == 0) {
+                return initialValue;
+            }
+            min = minOf(values);
+        } else if (array instanceof double[]) {
+            min = minOf((double[]) array, initialValue);
+        } else {
+            min = initialValue;
+            for (int i = 0, length = length(array); i < length; i++) {
+                double value = get(array, i);
+                min = min > value ? value : min;
+            }
+        }
+        return initialValue > min ? min : initialValue;
+    }
+
+    private static int maxOf(int[] values) {
+        int max0 = values[0], max1 = max0, max2 = max0, max3 = max0;
+        int i = 1;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            max0 = Math.max(max0, values[i]);
+            max1 = Math.max(max1, values[i + 1]);
+            max2 = Math.max(max2, values[i + 2]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            max0 = Math.max(max0, values[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    private static long maxOf(long[] values) {
+        long max0 = values[0], max1 = max0, max2 = max0, max3 = max0;
+        int i = 1;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            max0 = Math.max(max0, values[i]);
+            max1 = Math.max(max1, values[i + 1]);
+            max2 = Math.max(max2, values[i + 2]);
+            max3 = Math.max(max3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            max0 = Math.max(max0, values[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    private static double maxOf(double[] values, double initialValue) {
+        double max0 = initialValue, max1 = initialValue, max2 = initialValue, max3 = initialValue;
+        int i = 0;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            max0 = max0 < values[i] ? values[i] : max0;
+            max1 = max1 < values[i + 1] ? values[i + 1] : max1;
+            max2 = max2 < values[i + 2] ? values[i + 2] : max2;
+            max3 = max3 < values[i + 3] ? values[i + 3] : max3;
+        }
+        for (; i < values.length; i++) {
+            max0 = max0 < values[i] ? values[i] : max0;
+        }
+        max0 = max0 < max1 ? max1 : max0;
+        max2 = max2 < max3 ? max3 : max2;
+        return max0 < max2 ? max2 : max0;
+    }
+
+    private static int minOf(int[] values) {
+        int min0 = values[0], min1 = min0, min2 = min0, min3 = min0;
+        int i = 1;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            min0 = Math.min(min0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+        }
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+    }
+
+    private static long minOf(long[] values) {
+        long min0 = values[0], min1 = min0, min2 = min0, min3 = min0;
+        int i = 1;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            min0 = Math.min(min0, values[i]);
+            min1 = Math.min(min1, values[i + 1]);
+            min2 = Math.min(min2, values[i + 2]);
+            min3 = Math.min(min3, values[i + 3]);
+        }
+        for (; i < values.length; i++) {
+            min0 = Math.min(min0, values[i]);
+        }
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+    }
+
+    private static double minOf(double[] values, double initialValue) {
+        double min0 = initialValue, min1 = initialValue, min2 = initialValue, min3 = initialValue;
+        int i = 0;
+        for (int end = values.length - LANES + 1; i < end; i += LANES) {
+            min0 = min0 > values[i] ? values[i] : min0;
+            min1 = min1 > values[i + 1] ? values[i + 1] : min1;
+            min2 = min2 > values[i + 2] ? values[i + 2] : min2;
+            min3 = min3 > values[i + 3] ? values[i + 3] : min3;
+        }
+        for (; i < values.length; i++) {
+            min0 = min0 > values[i] ? values[i] : min0;
+        }
+        min0 = min0 > min1 ? min1 : min0;
+        min2 = min2 > min3 ? min3 : min2;
+        return min0 > min2 ? min2 : min0;
+    }
+
+    private static double get(Object array, int index) {
+        if (array instanceof int[]) {
+            return ((int[]) array)[index];
+        } else if (array instanceof long[]) {
+            return ((long[]) array)[index];
+        } else if (array instanceof double[]) {
+            return ((double[]) array)[index];
+        } else if (array instanceof float[]) {
+            return ((float[]) array)[index];
+        } else if (array instanceof short[]) {
+            return ((short[]) array)[index];
+        }
+        return ((byte[]) array)[index];
+    }
+}
@@ -0,0 +1,83 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+import java.util.Arrays;
+
+/**
+ * Substring search prepared once for a needle. The case sensitive search delegates to {@link String#indexOf(String)};
+ * the case insensitive one is a Boyer-Moore-Horspool search over case folded characters (compared the way
+ * {@link String#equalsIgnoreCase(String)} compares them), so neither of them allocates while searching.
+ */
+final class SubstringSearch {
+
+    private static final int SHIFT_TABLE_SIZE = 256;
+    private static final int SHIFT_TABLE_MASK = SHIFT_TABLE_SIZE - 1;
+
+    private final String needle;
+    private final boolean ignoreCase;
+    private final char[] foldedNeedle;
+    private final int[] shifts;
+
+    SubstringSearch(String needle, boolean ignoreCase) {
+        this.needle = needle;
+        this.ignoreCase = ignoreCase;
+        if (ignoreCase) {
+            this.foldedNeedle = fold(needle);
+            this.shifts = createShifts(foldedNeedle);
+        } else {
+            this.foldedNeedle = null;
+            this.shifts = null;
+        }
+    }
+
+    boolean isFoundIn(String haystack) {
+        if (!ignoreCase) {
+            return haystack.indexOf(needle) >= 0;
+        }
+        int needleLength = foldedNeedle.length;
+        if (needleLength == 0) {
+            return true;
+        }
+        int last = needleLength - 1;
+        int end = haystack.length() - needleLength;
+        int position = 0;
+        while (position <= end) {
+            char lastCharacter = fold(haystack.charAt(position + last));
+            if (lastCharacter == foldedNeedle[last] && matchesAt(haystack, position, last)) {
+                return true;
+            }
+            position += shifts[lastCharacter & SHIFT_TABLE_MASK];
+        }
+        return false;
+    }
+
+    private boolean matchesAt(String haystack, int position, int length) {
+        for (int i = 0; i < length; i++) {
+            if (fold(haystack.charAt(position + i)) != foldedNeedle[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // characters sharing the lower byte share a bucket, so every bucket keeps the smallest shift of its characters
+    private static int[] createShifts(char[] needle) {
+        int[] shifts = new int[SHIFT_TABLE_SIZE];
+        Arrays.fill(shifts, Math.max(needle.length, 1));
+        for (int i = 0; i < needle.length - 1; i++) {
+            shifts[needle[i] & SHIFT_TABLE_MASK] = needle.length - 1 - i;
+        }
+        return shifts;
+    }
+
+    private static char[] fold(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(value.charAt(i));
+        }
+        return folded;
+    }
+
+    private static char fold(char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+}
@@ -3,11 +3,11 @@ package pl.jsolve.sweetener.criteria.restriction;
 import java.util.Collection;
 import java.util.Map;
 
-import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.criteria.AggregationRestriction;
 import pl.jsolve.sweetener.criteria.restriction.CollectionExecutor.Executor;
 import pl.jsolve.sweetener.exception.AccessToFieldException;
 
-public class Sum implements FieldRestriction {
+public class Sum implements AggregationRestriction {
 
     private final static Double DELTA = 0.000001;
     private final String fieldName;
@@ -38,6 +38,10 @@ public class Sum implements FieldRestriction {
             return false;
         }
 
+        if (PrimitiveArrays.isNumericArray(fieldValue)) {
+            return checkSum(PrimitiveArrays.sum(fieldValue));
+        }
+
         CollectionExecutor executor = new CollectionExecutor();
         return executor.perform(fieldValue, new Executor() {
 
@@ -59,6 +63,11 @@ public class Sum implements FieldRestriction {
         });
     }
 
+    @Override
+    public boolean satisfies(AggregatedValues values) {
+        return checkSum(values.getSum());
+    }
+
     private boolean forArray(Object[] fieldValueAsArray) {
         double sum = 0.0;
         for (int i = 0; i < fieldValueAsArray.length; i++) {
@@ -0,0 +1,69 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+import java.util.Set;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.LongHashSet;
+
+/**
+ * Hashed lookup structure for the values of In and NotIn restrictions. When all values are of the same integral
+ * wrapper type (Byte, Short, Integer or Long) they are kept unboxed in a LongHashSet. Only field values of exactly that
+ * type are looked up there, which keeps the semantics of equals (e.g. Integer 1 does not equal Long 1).
+ */
+class ValueSet {
+
+    private final Set<Object> values;
+    private final LongHashSet integralValues;
+    private final Class<?> integralType;
+    private final boolean containsNull;
+
+    ValueSet(Object[] values) {
+        boolean containsNull = false;
+        Class<?> commonType = null;
+        boolean sameIntegralType = true;
+        for (Object value : values) {
+            if (value == null) {
+                containsNull = true;
+                continue;
+            }
+            if (commonType == null) {
+                commonType = value.getClass();
+            }
+            sameIntegralType &= value.getClass() == commonType && isIntegralType(commonType);
+        }
+        this.containsNull = containsNull;
+        if (commonType != null && sameIntegralType) {
+            this.integralType = commonType;
+            this.integralValues = new LongHashSet(values.length);
+            for (Object value : values) {
+                if (value != null) {
+                    integralValues.add(((Number) value).longValue());
+                }
+            }
+            this.values = null;
+        } else {
+            this.integralType = null;
+            this.integralValues = null;
+            this.values = Collections.newHashSetWithInitialCapacity(values.length * 2);
+            for (Object value : values) {
+                if (value != null) {
+                    this.values.add(value);
+                }
+            }
+        }
+    }
+
+    boolean contains(Object value) {
+        if (value == null) {
+            return containsNull;
+        }
+        if (integralValues != null) {
+            return value.getClass() == integralType && integralValues.contains(((Number) value).longValue());
+        }
+        return values.contains(value);
+    }
+
+    private static boolean isIntegralType(Class<?> type) {
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+}
@@ -0,0 +1,195 @@
+package pl.jsolve.sweetener.criteria.restriction;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.criteria.FieldRestriction;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+/**
+ * SQL LIKE pattern, where '%' matches any sequence of characters and '_' matches a single character. A wildcard
+ * preceded by '\' is matched literally. The pattern is analysed once: patterns which are a literal, a literal prefix,
+ * a literal suffix or a literal surrounded by '%' are answered with equals, startsWith, endsWith and a substring
+ * search; the remaining ones are compiled to a regular expression, which is run only for values starting with the
+ * literal prefix of the pattern.
+ */
+public class Wildcard implements FieldRestriction {
+
+    private static final char ANY_SEQUENCE = '%';
+    private static final char ANY_CHARACTER = '_';
+    private static final char ESCAPE = '\\';
+
+    private enum Kind {
+        EQUALS, STARTS_WITH, ENDS_WITH, CONTAINS, PATTERN
+    }
+
+    private final String fieldName;
+    private final String pattern;
+    private final boolean ignoreCase;
+    private final Kind kind;
+    private final String literal;
+    private final SubstringSearch search;
+    private final Pattern compiledPattern;
+
+    public Wildcard(String fieldName, String pattern) {
+        this(fieldName, pattern, false);
+    }
+
+    public Wildcard(String fieldName, String pattern, boolean ignoreCase) {
+        this.fieldName = fieldName;
+        this.pattern = pattern;
+        this.ignoreCase = ignoreCase;
+
+        List<Token> tokens = tokenize(pattern);
+        this.kind = kindOf(tokens);
+        this.literal = findLiteral(tokens, kind);
+        this.search = kind == Kind.CONTAINS ? new SubstringSearch(literal, ignoreCase) : null;
+        this.compiledPattern = kind == Kind.PATTERN ? compile(tokens, ignoreCase) : null;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean getIgnoreCase() {
+        return ignoreCase;
+    }
+
+    @Override
+    public RestrictionLevel getRestrictionLevel() {
+        return RestrictionLevel.MEDIUM;
+    }
+
+    @Override
+    public boolean satisfies(Object fieldValue) {
+        if (fieldValue != null) {
+            if (!(fieldValue instanceof String)) {
+                throw new AccessToFieldException("Type mismatch. Expected String but was "
+                        + fieldValue.getClass().getCanonicalName());
+            }
+            return satisfiesString((String) fieldValue);
+        }
+        return false;
+    }
+
+    private boolean satisfiesString(String fieldValue) {
+        switch (kind) {
+        case EQUALS:
+            return ignoreCase ? fieldValue.equalsIgnoreCase(literal) : fieldValue.equals(literal);
+        case STARTS_WITH:
+            return fieldValue.regionMatches(ignoreCase, 0, literal, 0, literal.length());
+        case ENDS_WITH:
+            return fieldValue.regionMatches(ignoreCase, fieldValue.length() - literal.length(), literal, 0,
+                    literal.length());
+        case CONTAINS:
+            return search.isFoundIn(fieldValue);
+        default:
+            return fieldValue.regionMatches(ignoreCase, 0, literal, 0, literal.length())
+                    && compiledPattern.matcher(fieldValue).matches();
+        }
+    }
+
+    private static List<Token> tokenize(String pattern) {
+        List<Token> tokens = Collections.newArrayList();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char character = pattern.charAt(i);
+            if (character == ESCAPE && i + 1 < pattern.length()) {
+                literal.append(pattern.charAt(++i));
+            } else if (character == ANY_SEQUENCE || character == ANY_CHARACTER) {
+                if (literal.length() > 0) {
+                    tokens.add(Token.literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                Token previous = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+                if (character != ANY_SEQUENCE || previous == null || previous.wildcard != ANY_SEQUENCE) {
+                    tokens.add(Token.wildcard(character));
+                }
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            tokens.add(Token.literal(literal.toString()));
+        }
+        return tokens;
+    }
+
+    private static Kind kindOf(List<Token> tokens) {
+        StringBuilder shape = new StringBuilder();
+        for (Token token : tokens) {
+            if (token.wildcard == ANY_CHARACTER) {
+                return Kind.PATTERN;
+            }
+            shape.append(token.isLiteral() ? 'L' : ANY_SEQUENCE);
+        }
+        String tokensShape = shape.toString();
+        if (tokensShape.isEmpty() || tokensShape.equals("L")) {
+            return Kind.EQUALS;
+        } else if (tokensShape.equals("L%") || tokensShape.equals("%")) {
+            return Kind.STARTS_WITH;
+        } else if (tokensShape.equals("%L")) {
+            return Kind.ENDS_WITH;
+        } else if (tokensShape.equals("%L%")) {
+            return Kind.CONTAINS;
+        }
+        return Kind.PATTERN;
+    }
+
+    // the literal compared by the fast paths, or the literal prefix of a pattern
+    private static String findLiteral(List<Token> tokens, Kind kind) {
+        for (Token token : tokens) {
+            if (token.isLiteral()) {
+                return token.literal;
+            } else if (kind == Kind.PATTERN) {
+                break;
+            }
+        }
+        return "";
+    }
+
+    private static Pattern compile(List<Token> tokens, boolean ignoreCase) {
+        StringBuilder regex = new StringBuilder();
+        for (Token token : tokens) {
+            if (token.isLiteral()) {
+                regex.append(Pattern.quote(token.literal));
+            } else {
+                regex.append(token.wildcard == ANY_SEQUENCE ? ".*" : ".");
+            }
+        }
+        int flags = Pattern.DOTALL;
+        if (ignoreCase) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        return Pattern.compile(regex.toString(), flags);
+    }
+
+    private static class Token {
+
+        private final String literal;
+        private final char wildcard;
+
+        private Token(String literal, char wildcard) {
+            this.literal = literal;
+            this.wildcard = wildcard;
+        }
+
+        static Token literal(String literal) {
+            return new Token(literal, (char) 0);
+        }
+
+        static Token wildcard(char wildcard) {
+            return new Token(null, wildcard);
+        }
+
+        boolean isLiteral() {
+            return literal != null;
+        }
+    }
+}
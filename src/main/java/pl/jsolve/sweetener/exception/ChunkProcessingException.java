@@ -0,0 +1,10 @@
+package pl.jsolve.sweetener.exception;
+
+public class ChunkProcessingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ChunkProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
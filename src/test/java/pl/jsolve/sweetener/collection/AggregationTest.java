@@ -0,0 +1,106 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.collection.Aggregation.avg;
+import static pl.jsolve.sweetener.collection.Aggregation.count;
+import static pl.jsolve.sweetener.collection.Aggregation.max;
+import static pl.jsolve.sweetener.collection.Aggregation.min;
+import static pl.jsolve.sweetener.collection.Aggregation.sum;
+import static pl.jsolve.sweetener.collection.Aggregation.variance;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.math.Maths;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class AggregationTest {
+
+    @Test
+    public void shouldAggregateValuesOfGroups() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Map<GroupKey, Aggregates> aggregates = Collections.aggregate(people, "company.name", count(), sum("age"),
+                avg("age"), min("age"), max("age"));
+
+        // then
+        assertThat(aggregates).hasSize(2);
+        Aggregates oracle = aggregates.get(new GroupKey("Oracle"));
+        assertThat(oracle.getCount()).isEqualTo(3);
+        assertThat(oracle.get(0)).isEqualTo(3.0);
+        assertThat(oracle.get(sum("age"))).isEqualTo(90.0);
+        assertThat(oracle.get(avg("age"))).isEqualTo(30.0);
+        assertThat(oracle.get(min("age"))).isEqualTo(20.0);
+        assertThat(oracle.get(max("age"))).isEqualTo(40.0);
+        assertThat(aggregates.get(new GroupKey("EA")).get(sum("age"))).isEqualTo(45.0);
+    }
+
+    @Test
+    public void shouldComputeTheSameVarianceAsMaths() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Map<GroupKey, Aggregates> aggregates = Collections.aggregate(people, "company.name", variance("age"));
+
+        // then
+        assertThat(aggregates.get(new GroupKey("Oracle")).get(0)).isEqualTo(
+                Maths.varianceInteger(Arrays.asList(20, 30, 40)), org.fest.assertions.Delta.delta(1e-9));
+    }
+
+    @Test
+    public void shouldSkipNullValues() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Map<GroupKey, Aggregates> aggregates = Collections.aggregate(people, new String[] { "company.name", "age" },
+                count("name"), avg("company.address"));
+
+        // then
+        Aggregates ea = aggregates.get(new GroupKey("EA", 45));
+        assertThat(ea.getCount()).isEqualTo(1);
+        assertThat(ea.get(count("name"))).isEqualTo(0.0);
+        assertThat(aggregates.get(new GroupKey("Oracle", 30)).get(count("name"))).isEqualTo(1.0);
+        assertThat(ea.get(avg("company.address"))).isNaN();
+    }
+
+    @Test
+    public void shouldNotAggregateValuesWhichAreNotNumbers() {
+        // given
+        final List<Person> people = prepareListOfPeople();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        Collections.aggregate(people, "company.name", sum("lastName"));
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The field lastName is not a number").isThrown();
+    }
+
+    private List<Person> prepareListOfPeople() {
+        Company oracle = new Company("Oracle", null);
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person("John", "Wolf", 20, oracle, null, null, null));
+        people.add(new Person(null, "Sky", 45, new Company("EA", null), null, null, null));
+        people.add(new Person("Marry", "Duke", 30, oracle, null, null, null));
+        people.add(new Person("Peter", "Hunt", 40, oracle, null, null, null));
+        return people;
+    }
+}
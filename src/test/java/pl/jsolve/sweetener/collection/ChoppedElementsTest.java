@@ -0,0 +1,126 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.exception.PaginationException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class ChoppedElementsTest {
+
+    @Test
+    public void shouldAskSupplierForPagesWhenTheyAreVisited() {
+        // given
+        CountingPageSupplier supplier = new CountingPageSupplier();
+        ChoppedElements<Integer> choppedElements = new ChoppedElements<Integer>(0, 10, 95, supplier);
+
+        // when
+        choppedElements.nextPage();
+        Collection<Integer> elementsOfPage = choppedElements.getElementsOfPage();
+
+        // then
+        assertThat(choppedElements.getNumberOfPages()).isEqualTo(10);
+        assertThat(choppedElements.getListOfPages()).hasSize(10);
+        assertThat(elementsOfPage).containsOnly(10);
+        assertThat(supplier.numberOfSuppliedPages).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepRecentlyVisitedPages() {
+        // given
+        CountingPageSupplier supplier = new CountingPageSupplier();
+        ChoppedElements<Integer> choppedElements = new ChoppedElements<Integer>(0, 10, 95, supplier, 2);
+
+        // when
+        choppedElements.getElementsOfPage();
+        choppedElements.nextPage();
+        choppedElements.getElementsOfPage();
+        choppedElements.previousPage();
+        choppedElements.getElementsOfPage();
+        choppedElements.setPage(5);
+        choppedElements.getElementsOfPage();
+        choppedElements.setPage(1);
+        choppedElements.getElementsOfPage();
+
+        // then
+        assertThat(supplier.numberOfSuppliedPages).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldChopElementsOfIterator() {
+        // given
+        List<Integer> numbers = Collections.newArrayList();
+        for (int i = 0; i < 25; i++) {
+            numbers.add(i);
+        }
+        Iterator<Integer> iterator = numbers.iterator();
+
+        // when
+        ChoppedElements<Integer> choppedElements = Collections.chopElements(iterator, numbers.size(), 10, 1);
+        Collection<Integer> firstPage = choppedElements.getElementsOfPage();
+        choppedElements.setPage(2);
+        Collection<Integer> lastPage = choppedElements.getElementsOfPage();
+
+        // then
+        assertThat(firstPage).containsOnly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(lastPage).containsOnly(20, 21, 22, 23, 24);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldReadCurrentPageAgainWhenNoPagesAreCached() {
+        // given
+        List<Integer> numbers = Collections.newArrayList(1, 2, 3, 4, 5);
+        ChoppedElements<Integer> choppedElements = Collections.chopElements(numbers.iterator(), numbers.size(), 2, 0);
+        choppedElements.setPage(1);
+
+        // when
+        Collection<Integer> firstRead = choppedElements.getElementsOfPage();
+        Collection<Integer> secondRead = choppedElements.getElementsOfPage();
+
+        // then
+        assertThat(firstRead).containsOnly(3, 4);
+        assertThat(secondRead).containsOnly(3, 4);
+    }
+
+    @Test
+    public void shouldNotVisitPageWhichHasAlreadyBeenReadFromIterator() {
+        // given
+        List<Integer> numbers = Collections.newArrayList(1, 2, 3, 4, 5);
+        final ChoppedElements<Integer> choppedElements = Collections.chopElements(numbers.iterator(),
+                numbers.size(), 2, 0);
+        choppedElements.setPage(1);
+        choppedElements.getElementsOfPage();
+        choppedElements.previousPage();
+
+        // when
+        PaginationException caughtException = tryToCatch(PaginationException.class, new ExceptionalOperation() {
+
+            @Override
+            public void operate() throws Exception {
+                choppedElements.getElementsOfPage();
+            }
+        });
+
+        // then
+        assertThrowable(caughtException).withMessage("The page 0 has already been read from the source").isThrown();
+    }
+
+    private static class CountingPageSupplier implements PageSupplier<Integer> {
+
+        private int numberOfSuppliedPages;
+
+        @Override
+        public Collection<Integer> getElementsOfPage(int page) {
+            numberOfSuppliedPages++;
+            return Collections.newArrayList(page * 10);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class ChunkedProcessorTest {
+
+    private static final int NUMBER_OF_ELEMENTS = 1000;
+    private static final int CHUNK_SIZE = 30;
+    private static final int NUMBER_OF_WORKERS = 4;
+
+    @Test
+    public void shouldProcessChunksReturningResultsInOrder() {
+        // given
+        ChunkedProcessor<Integer, Integer> processor = new ChunkedProcessor<Integer, Integer>(CHUNK_SIZE,
+                NUMBER_OF_WORKERS, new SumFunction());
+
+        // when
+        List<ChunkResult<Integer>> results = processor.process(prepareListOfNumbers());
+
+        // then
+        assertThat(results).hasSize(34);
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getIndex()).isEqualTo(i);
+            assertThat(results.get(i).isSuccessful()).isTrue();
+        }
+        assertThat(results.get(0).getResult()).isEqualTo(435);
+        assertThat(results.get(33).getResult()).isEqualTo(9945);
+    }
+
+    @Test
+    public void shouldCollectErrorsOfChunks() {
+        // given
+        ChunkedProcessor<Integer, Integer> processor = new ChunkedProcessor<Integer, Integer>(CHUNK_SIZE,
+                NUMBER_OF_WORKERS, new ChunkFunction<Integer, Integer>() {
+
+                    @Override
+                    public Integer apply(List<Integer> chunk) throws Exception {
+                        if (chunk.contains(500)) {
+                            throw new IllegalStateException("Chunk with 500");
+                        }
+                        return chunk.size();
+                    }
+                });
+
+        // when
+        List<ChunkResult<Integer>> results = processor.process(prepareListOfNumbers());
+
+        // then
+        assertThat(results).hasSize(34);
+        assertThat(results.get(16).isSuccessful()).isFalse();
+        assertThat(results.get(16).getError().getMessage()).isEqualTo("Chunk with 500");
+        assertThat(results.get(17).getResult()).isEqualTo(CHUNK_SIZE);
+        assertThat(results.get(33).getResult()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldNotReadElementsAheadOfBoundedQueue() {
+        // given
+        final CountingIterator source = new CountingIterator(prepareListOfNumbers().iterator());
+        final AtomicInteger maxReadAhead = new AtomicInteger();
+        final AtomicInteger processedElements = new AtomicInteger();
+        int queueCapacity = 2;
+        ChunkedProcessor<Integer, Integer> processor = new ChunkedProcessor<Integer, Integer>(CHUNK_SIZE,
+                NUMBER_OF_WORKERS, queueCapacity, new ChunkFunction<Integer, Integer>() {
+
+                    @Override
+                    public Integer apply(List<Integer> chunk) throws Exception {
+                        Thread.sleep(2);
+                        int readAhead = source.numberOfReadElements.get() - processedElements.get();
+                        maxReadAhead.set(Math.max(maxReadAhead.get(), readAhead));
+                        processedElements.addAndGet(chunk.size());
+                        return chunk.size();
+                    }
+                });
+
+        // when
+        List<ChunkResult<Integer>> results = processor.process(source);
+
+        // then
+        assertThat(results).hasSize(34);
+        assertThat(maxReadAhead.get()).isLessThanOrEqualTo((NUMBER_OF_WORKERS + queueCapacity) * CHUNK_SIZE);
+    }
+
+    @Test
+    public void shouldNotCreateProcessorWithoutWorkers() {
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        new ChunkedProcessor<Integer, Integer>(CHUNK_SIZE, 0, new SumFunction());
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The number of workers has to be greater than zero").isThrown();
+    }
+
+    private List<Integer> prepareListOfNumbers() {
+        List<Integer> numbers = Collections.newArrayListWithCapacity(NUMBER_OF_ELEMENTS);
+        for (int i = 0; i < NUMBER_OF_ELEMENTS; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
+
+    private static class SumFunction implements ChunkFunction<Integer, Integer> {
+
+        @Override
+        public Integer apply(List<Integer> chunk) throws Exception {
+            int sum = 0;
+            for (Integer number : chunk) {
+                sum += number;
+            }
+            return sum;
+        }
+    }
+
+    private static class CountingIterator implements Iterator<Integer> {
+
+        private final Iterator<Integer> iterator;
+        private final AtomicInteger numberOfReadElements = new AtomicInteger();
+
+        CountingIterator(Iterator<Integer> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            numberOfReadElements.incrementAndGet();
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
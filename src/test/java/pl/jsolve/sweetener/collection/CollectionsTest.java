@@ -321,6 +321,121 @@ public class CollectionsTest {
         assertThat(choppedElements.getElementsOfPage()).containsOnly("I");
     }
 
+    @Test
+    public void shouldPaginateCollectionWithoutCopyingIt() {
+        // given
+        int page = 1;
+        int resultsPerPage = 4;
+
+        // when
+        Pagination<String> pagination = Collections.paginate(alphabet, page, resultsPerPage);
+        alphabet.set(4, "X");
+
+        // then
+        assertThat(Collections.newArrayList(pagination.getElementsOfPage())).containsExactly("X", "F", "G", "H");
+    }
+
+    @Test
+    public void shouldPaginateCollectionWithoutRandomAccess() {
+        // given
+        LinkedList<String> letters = new LinkedList<String>(alphabet);
+        Set<String> orderedLetters = new LinkedHashSet<String>(alphabet);
+
+        // when
+        Pagination<String> pagination = Collections.paginate(letters, 2, 4);
+        ChoppedElements<String> choppedElements = Collections.chopElements(orderedLetters, 4);
+        choppedElements.nextPage();
+
+        // then
+        assertThat(Collections.newArrayList(pagination.getElementsOfPage())).containsExactly("I");
+        assertThat(choppedElements.getElementsOfPage()).hasSize(4);
+        assertThat(Collections.newArrayList(choppedElements.getElementsOfPage())).containsExactly("E", "F", "G", "H");
+    }
+
+    @Test
+    public void shouldReadEveryElementOnceWhenVisitingChoppedPagesInOrder() {
+        // given
+        final LinkedList<String> letters = new LinkedList<String>(alphabet);
+        final int[] readElements = new int[1];
+        Collection<String> countedLetters = new AbstractCollection<String>() {
+
+            @Override
+            public Iterator<String> iterator() {
+                final Iterator<String> iterator = letters.iterator();
+                return new Iterator<String>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        readElements[0]++;
+                        return iterator.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return letters.size();
+            }
+        };
+        ChoppedElements<String> choppedElements = Collections.chopElements(countedLetters, 2);
+
+        // when
+        List<String> visitedLetters = Collections.newArrayList();
+        for (Collection<String> page : choppedElements.getListOfPages()) {
+            visitedLetters.addAll(page);
+        }
+
+        // then
+        assertThat(visitedLetters).isEqualTo(alphabet);
+        assertThat(readElements[0]).isEqualTo(alphabet.size());
+    }
+
+    @Test
+    public void shouldStopPageAtTheEndOfShrunkCollection() {
+        // given
+        LinkedList<String> letters = new LinkedList<String>(alphabet);
+        Pagination<String> pagination = Collections.paginate(letters, 1, 4);
+
+        // when
+        while (letters.size() > 6) {
+            letters.removeLast();
+        }
+
+        // then
+        assertThat(pagination.getElementsOfPage()).hasSize(2);
+        assertThat(Collections.newArrayList(pagination.getElementsOfPage())).containsExactly("E", "F");
+    }
+
+    @Test
+    public void shouldNotModifyCollectionThroughPage() {
+        // given
+        final Pagination<String> pagination = Collections.paginate(alphabet, 0, 4);
+
+        // when
+        UnsupportedOperationException caughtException = tryToCatch(UnsupportedOperationException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        pagination.getElementsOfPage().clear();
+                    }
+                });
+
+        // then
+        assertThat(caughtException).isNotNull();
+        assertThat(alphabet).hasSize(9);
+    }
+
     @Test
     public void shouldReturnGroups() {
         // given
@@ -398,6 +513,80 @@ public class CollectionsTest {
         assertThat(uniques).onProperty("name").contains("John");
     }
 
+    @Test
+    public void shouldReturnGroupsForPrimitiveKeys() {
+        // given
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person("John", "Deep", 23, null, null, null, null));
+        people.add(new Person("Marry", "Deep", 32, null, null, null, null));
+        people.add(new Person("John", "Knee", 23, null, null, null, null));
+
+        // when
+        Map<GroupKey, List<Person>> groups = Collections.group(people, "age");
+        Map<GroupKey, List<Person>> groupsForTwoKeys = Collections.group(people, "age", "age");
+
+        // then
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(new GroupKey(23))).onProperty("lastName").containsExactly("Deep", "Knee");
+        assertThat(groups.get(new GroupKey(32))).onProperty("name").containsExactly("Marry");
+        assertThat(groupsForTwoKeys).hasSize(2);
+        assertThat(groupsForTwoKeys.get(new GroupKey(23, 23))).onProperty("lastName").containsExactly("Deep", "Knee");
+    }
+
+    @Test
+    public void shouldReturnGroupsForElementsOfClassesWithDifferentTypesOfKey() {
+        // given
+        List<Object> elements = Collections.newArrayList();
+        elements.add(new Person("John", "Deep", 23, null, null, null, null));
+        elements.add(new ObjectWithBoxedAge(23));
+        elements.add(new ObjectWithBoxedAge(null));
+        elements.add(new Person("Marry", "Deep", 32, null, null, null, null));
+
+        // when
+        Map<GroupKey, List<Object>> groups = Collections.group(elements, "age");
+
+        // then
+        assertThat(groups).hasSize(3);
+        assertThat(groups.get(new GroupKey(23))).containsExactly(elements.get(0), elements.get(1));
+        assertThat(groups.get(new GroupKey((Object) null))).containsExactly(elements.get(2));
+        assertThat(groups.get(new GroupKey(32))).containsExactly(elements.get(3));
+    }
+
+    @Test
+    public void shouldReturnTheSameGroupsInParallel() {
+        // given
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < 20000; i++) {
+            people.add(new Person("John" + i % 7, "Deep", i % 100, null, null, null, null));
+        }
+
+        // when
+        Map<GroupKey, List<Person>> groups = Collections.parallelGroup(people, 4, "age", "name");
+
+        // then
+        assertThat(groups).hasSize(700);
+        assertThat(groups).isEqualTo(Collections.group(people, "age", "name"));
+    }
+
+    @Test
+    public void shouldReturnUniquesInOrderOfCollection() {
+        // given
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person("John", "Deep", 23, null, null, null, null));
+        people.add(new Person("Marry", "Sky", 32, null, null, null, null));
+        people.add(new Person("Peter", "Deep", 37, null, null, null, null));
+        people.add(new Person("Lucas", "Knee", 41, null, null, null, null));
+
+        // when
+        List<Person> uniques = Collections.uniques(people, "lastName");
+        Map<GroupKey, List<Person>> duplicates = Collections.duplicates(people, "lastName");
+
+        // then
+        assertThat(uniques).onProperty("name").containsExactly("Marry", "Lucas");
+        assertThat(duplicates).hasSize(1);
+        assertThat(duplicates.get(new GroupKey("Deep"))).onProperty("name").containsExactly("John", "Peter");
+    }
+
     @Test
     public void shouldContainAny() {
         // given
@@ -609,4 +798,13 @@ public class CollectionsTest {
         // then
         assertThrowable(caughtException).withMessage("Comparator cannot be null").isThrown();
     }
+
+    private static class ObjectWithBoxedAge {
+
+        private final Integer age;
+
+        ObjectWithBoxedAge(Integer age) {
+            this.age = age;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.data.Address;
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.criteria.Criteria;
+import pl.jsolve.sweetener.criteria.Restrictions;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+
+public class IndexedCollectionTest {
+
+    private IndexedCollection<Person> people;
+
+    @Before
+    public void setUp() {
+        people = new IndexedCollection<Person>(prepareListOfPeople()).addHashIndex("name").addSortedIndex("age")
+                .addHashIndex("company.name");
+    }
+
+    @Test
+    public void shouldQueryUsingHashIndex() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.equals("name", "John"))
+                .add(Restrictions.isNotNull("company.address"));
+
+        // when
+        QueryResult<Person> result = people.query(criteria);
+
+        // then
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Sky");
+        assertThat(result.getPlan().getIndexType()).isEqualTo(IndexType.HASH);
+        assertThat(result.getPlan().getIndexedField()).isEqualTo("name");
+        assertThat(result.getPlan().getNumberOfCandidates()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldQueryUsingHashIndexForInRestriction() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.in("company.name", "EA", "Oracle", "IBM"));
+
+        // when
+        QueryResult<Person> result = people.query(criteria);
+
+        // then
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Sky", "Duke");
+        assertThat(result.getPlan().getIndexedField()).isEqualTo("company.name");
+    }
+
+    @Test
+    public void shouldQueryUsingSortedIndex() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.between("age", 30, 45, true, false))
+                .add(Restrictions.like("lastName", "u"));
+
+        // when
+        QueryResult<Person> result = people.query(criteria);
+
+        // then
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Hunt");
+        assertThat(result.getPlan().getIndexType()).isEqualTo(IndexType.SORTED);
+        assertThat(result.getPlan().getNumberOfCandidates()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldChooseIndexWithTheSmallestNumberOfCandidates() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.greater("age", 20))
+                .add(Restrictions.equals("name", "Marry"));
+
+        // when
+        QueryResult<Person> result = people.query(criteria);
+
+        // then
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Duke");
+        assertThat(result.getPlan().getIndexedField()).isEqualTo("name");
+        assertThat(result.getPlan().getNumberOfCandidates()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldScanAllElementsWhenThereIsNoIndex() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.equals("lastName", "Wolf"));
+
+        // when
+        QueryResult<Person> result = people.query(criteria);
+
+        // then
+        assertThat(result.getElements()).onProperty("name").containsExactly("John");
+        assertThat(result.getPlan().isFullScan()).isTrue();
+        assertThat(result.getPlan().getNumberOfCandidates()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldKeepIndexesConsistentAfterAddingAndRemovingElements() {
+        // given
+        Person john = people.iterator().next();
+        people.add(new Person("John", "Rambo", 40, null, null, null, null));
+
+        // when
+        people.remove(john);
+        QueryResult<Person> result = people.query(Criteria.newCriteria().add(Restrictions.equals("name", "John")));
+
+        // then
+        assertThat(people).hasSize(4);
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Sky", "Rambo");
+        assertThat(result.getPlan().getNumberOfCandidates()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRemoveElementsFromIndexesUsingIterator() {
+        // given
+        Iterator<Person> iterator = people.iterator();
+
+        // when
+        while (iterator.hasNext()) {
+            if (iterator.next().getAge() > 40) {
+                iterator.remove();
+            }
+        }
+        QueryResult<Person> result = people.query(Criteria.newCriteria().add(Restrictions.greater("age", 0)));
+
+        // then
+        assertThat(result.getElements()).onProperty("lastName").containsExactly("Wolf", "Sky");
+    }
+
+    @Test
+    public void shouldReturnTheSameElementsAsScanForNaNAndNegativeZero() {
+        // given
+        IndexedCollection<Measurement> measurements = new IndexedCollection<Measurement>().addSortedIndex("value");
+        List<Measurement> scannedMeasurements = Collections.newArrayList();
+        for (double value : new double[] { Double.NaN, -0.0, 0.0, 2.0, -1.0 }) {
+            measurements.add(new Measurement(value));
+            scannedMeasurements.add(new Measurement(value));
+        }
+        Criteria[] criteria = { Criteria.newCriteria().add(Restrictions.greater("value", 1)),
+                Criteria.newCriteria().add(Restrictions.greaterOrEquals("value", 0)),
+                Criteria.newCriteria().add(Restrictions.greater("value", -0.0)),
+                Criteria.newCriteria().add(Restrictions.lessOrEquals("value", -0.0)),
+                Criteria.newCriteria().add(Restrictions.less("value", Double.NaN)) };
+
+        for (Criteria criterion : criteria) {
+            // when
+            QueryResult<Measurement> result = measurements.query(criterion);
+
+            // then
+            assertThat(result.getPlan().getIndexedField()).isEqualTo("value");
+            assertThat(valuesOf(result.getElements())).isEqualTo(
+                    valuesOf(Collections.filter(scannedMeasurements, criterion)));
+        }
+    }
+
+    @Test
+    public void shouldNotKeepElementInIndexesWhenAddingItFails() {
+        // given
+        IndexedCollection<Measurement> measurements = new IndexedCollection<Measurement>().addSortedIndex("value")
+                .addSortedIndex("label");
+        measurements.add(new Measurement(1.0, 1));
+
+        // when
+        try {
+            measurements.add(new Measurement(2.0, "oops"));
+        } catch (AccessToFieldException ex) {
+            // expected
+        }
+        QueryResult<Measurement> result = measurements.query(Criteria.newCriteria().add(
+                Restrictions.greater("value", 0)));
+
+        // then
+        assertThat(measurements).hasSize(1);
+        assertThat(valuesOf(result.getElements())).containsExactly(1.0);
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person("John", "Wolf", 27, null, null, null, null));
+        people.add(new Person("John", "Sky", 31, new Company("EA", new Address("street1", "city1")), null, null, null));
+        people.add(new Person("Marry", "Duke", 45, new Company("Oracle", new Address("street2", null)), null, null,
+                null));
+        people.add(new Person("Peter", "Hunt", 41, null, null, null, null));
+        return people;
+    }
+
+    private static List<Double> valuesOf(Collection<Measurement> measurements) {
+        List<Double> values = Collections.newArrayList();
+        for (Measurement measurement : measurements) {
+            values.add(measurement.value);
+        }
+        return values;
+    }
+
+    private static class Measurement {
+
+        private double value;
+        private Object label;
+
+        Measurement(double value) {
+            this.value = value;
+        }
+
+        Measurement(double value, Object label) {
+            this.value = value;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class IntArrayListTest {
+
+    @Test
+    public void shouldAddAndRemoveElements() {
+        // given
+        IntArrayList list = Collections.newIntList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            list.removeAt(i);
+        }
+
+        // then
+        assertThat(list.size()).isEqualTo(50);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(49)).isEqualTo(99);
+    }
+
+    @Test
+    public void shouldReflectChangesMadeThroughListView() {
+        // given
+        IntArrayList list = Collections.newIntList(3, 1, 2);
+        List<Integer> view = list.asList();
+
+        // when
+        java.util.Collections.sort(view);
+
+        // then
+        assertThat(list.toArray()).isEqualTo(new int[] { 1, 2, 3 });
+    }
+
+    @Test
+    public void shouldCreateListOfSingleElementOnlyThroughFactory() {
+        // when
+        IntArrayList listWithCapacity = new IntArrayList(5);
+        IntArrayList listOfElement = Collections.newIntList(5);
+
+        // then
+        assertThat(listWithCapacity.size()).isEqualTo(0);
+        assertThat(listOfElement.toArray()).isEqualTo(new int[] { 5 });
+    }
+}
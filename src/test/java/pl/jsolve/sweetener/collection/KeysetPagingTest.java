@@ -0,0 +1,163 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class KeysetPagingTest {
+
+    private static final int NUMBER_OF_PEOPLE = 25;
+
+    @Test
+    public void shouldReturnPagesOfSortedListFollowingCursor() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Pagination<Person> firstPage = Collections.pageAfter(people, "age", null, 10);
+        Pagination<Person> secondPage = Collections.pageAfter(people, "age", firstPage.getNextCursor(), 10);
+        Pagination<Person> lastPage = Collections.pageAfter(people, "age", secondPage.getNextCursor(), 10);
+
+        // then
+        assertThat(firstPage.getElementsOfPage()).onProperty("age").containsOnly(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+        assertThat(firstPage.getNextCursor()).isEqualTo(new PageCursor(18, 1));
+        assertThat(secondPage.getPage()).isEqualTo(1);
+        assertThat(secondPage.getElementsOfPage()).onProperty("age").contains(20, 38);
+        assertThat(lastPage.getPage()).isEqualTo(2);
+        assertThat(lastPage.getElementsOfPage()).hasSize(5);
+        assertThat(lastPage.hasNextCursor()).isFalse();
+        assertThat(lastPage.getTotalElements()).isEqualTo(NUMBER_OF_PEOPLE);
+    }
+
+    @Test
+    public void shouldContinueAfterKeyWhichIsNotInCollection() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Pagination<Person> pagination = Collections.pageAfter(people, "age", 7, 3);
+
+        // then
+        assertThat(pagination.getElementsOfPage()).onProperty("age").containsOnly(8, 10, 12);
+        assertThat(pagination.getNextCursor()).isEqualTo(new PageCursor(12, 1));
+    }
+
+    @Test
+    public void shouldReturnTheSamePagesForCollectionWithoutRandomAccess() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        LinkedList<Person> linkedPeople = new LinkedList<Person>(people);
+
+        // when
+        Pagination<Person> pagination = Collections.pageAfter(linkedPeople, "age", 20, 4);
+
+        // then
+        assertThat(pagination.getElementsOfPage()).isEqualTo(
+                Collections.newArrayList(Collections.pageAfter(people, "age", 20, 4).getElementsOfPage()));
+        assertThat(pagination.getNextCursor()).isEqualTo(new PageCursor(28, 1));
+        assertThat(pagination.getPage()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnPagesOfNavigableSetAndMap() {
+        // given
+        TreeSet<Integer> numbers = Collections.newTreeSet(5, 1, 4, 2, 3);
+        NavigableMap<Integer, String> names = new TreeMap<Integer, String>();
+        names.put(3, "C");
+        names.put(1, "A");
+        names.put(2, "B");
+
+        // when
+        Pagination<Integer> pageOfNumbers = Collections.pageAfter(numbers, PageCursor.after(2), 2);
+        Pagination<String> pageOfNames = Collections.pageAfter(names, null, 2);
+
+        // then
+        assertThat(pageOfNumbers.getElementsOfPage()).containsOnly(3, 4);
+        assertThat(pageOfNumbers.getNextCursor()).isEqualTo(PageCursor.after(4));
+        assertThat(pageOfNames.getElementsOfPage()).containsOnly("A", "B");
+        assertThat(pageOfNames.getNextCursor()).isEqualTo(PageCursor.after(2));
+    }
+
+    @Test
+    public void shouldNotLoseElementsWithKeyRepeatedAcrossPages() {
+        // given
+        List<Person> people = Collections.newArrayList();
+        int[] ages = { 1, 2, 2, 2, 3 };
+        for (int i = 0; i < ages.length; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, ages[i], null, null, null, null));
+        }
+
+        for (Collection<Person> sortedPeople : Collections.<Collection<Person>> newArrayList(people,
+                new LinkedList<Person>(people))) {
+            // when
+            List<Person> visitedPeople = Collections.newArrayList();
+            PageCursor cursor = null;
+            do {
+                Pagination<Person> pagination = Collections.pageAfter(sortedPeople, "age", cursor, 2);
+                visitedPeople.addAll(pagination.getElementsOfPage());
+                cursor = pagination.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertThat(visitedPeople).isEqualTo(people);
+        }
+    }
+
+    @Test
+    public void shouldReturnNextCursorWhenLastElementOfPageHasNullKey() {
+        // given
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person(null, "Wolf", 1, null, null, null, null));
+        people.add(new Person(null, "Sky", 2, null, null, null, null));
+        people.add(new Person("x", "Duke", 3, null, null, null, null));
+
+        // when
+        Pagination<Person> firstPage = Collections.pageAfter(people, "name", null, 2);
+        Pagination<Person> secondPage = Collections.pageAfter(people, "name", firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.hasNextCursor()).isTrue();
+        assertThat(secondPage.getElementsOfPage()).onProperty("lastName").containsOnly("Duke");
+        assertThat(secondPage.hasNextCursor()).isFalse();
+    }
+
+    @Test
+    public void shouldNotReturnPageWithoutElements() {
+        // given
+        final List<Person> people = prepareListOfPeople();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        Collections.pageAfter(people, "age", null, 0);
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The limit has to be greater than zero").isThrown();
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, 2 * i, null, null, null, null));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,113 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class LongArrayListTest {
+
+    @Test
+    public void shouldAddElementsGrowingTheArray() {
+        // given
+        LongArrayList list = Collections.newLongListWithCapacity(2);
+
+        // when
+        for (long i = 0; i < 1000; i++) {
+            list.add(i * 3);
+        }
+
+        // then
+        assertThat(list.size()).isEqualTo(1000);
+        assertThat(list.get(0)).isEqualTo(0);
+        assertThat(list.get(999)).isEqualTo(2997);
+        assertThat(list.indexOf(300)).isEqualTo(100);
+        assertThat(list.contains(301)).isFalse();
+    }
+
+    @Test
+    public void shouldInsertSetAndRemoveElements() {
+        // given
+        LongArrayList list = Collections.newLongList(1, 2, 3);
+
+        // when
+        list.add(1, 7);
+        long previousElement = list.set(3, 9);
+        long removedElement = list.removeAt(0);
+
+        // then
+        assertThat(previousElement).isEqualTo(3);
+        assertThat(removedElement).isEqualTo(1);
+        assertThat(list.toArray()).isEqualTo(new long[] { 7, 2, 9 });
+    }
+
+    @Test
+    public void shouldSortElements() {
+        // given
+        LongArrayList list = Collections.newLongList(5, -1, 3, 0);
+
+        // when
+        list.sort();
+
+        // then
+        assertThat(list.toArray()).isEqualTo(new long[] { -1, 0, 3, 5 });
+    }
+
+    @Test
+    public void shouldReflectChangesMadeThroughListView() {
+        // given
+        LongArrayList list = Collections.newLongList(1, 2, 3);
+        List<Long> view = list.asList();
+
+        // when
+        view.add(4L);
+        view.set(0, 10L);
+        view.remove(1);
+        list.add(5);
+
+        // then
+        assertThat(list.toArray()).isEqualTo(new long[] { 10, 3, 4, 5 });
+        assertThat(view).containsExactly(10L, 3L, 4L, 5L);
+        assertThat(view.contains(3L)).isTrue();
+        assertThat(view.contains(3)).isFalse();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+        // given
+        final LongArrayList list = Collections.newLongList(1, 2, 3);
+
+        // when
+        IndexOutOfBoundsException caughtException = tryToCatch(IndexOutOfBoundsException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        list.get(3);
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("Index: 3, size: 3").isThrown();
+    }
+
+    @Test
+    public void shouldCompareListsByElements() {
+        // given
+        LongArrayList list = Collections.newLongListWithCapacity(100);
+        list.addAll(1, 2, 3);
+
+        // when
+        boolean equal = list.equals(Collections.newLongList(1, 2, 3));
+
+        // then
+        assertThat(equal).isTrue();
+        assertThat(list.hashCode()).isEqualTo(Collections.newLongList(1, 2, 3).hashCode());
+        assertThat(list.toString()).isEqualTo("[1, 2, 3]");
+    }
+}
@@ -0,0 +1,100 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+    @Test
+    public void shouldAddAndFindValues() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        for (long i = -1000; i <= 1000; i++) {
+            set.add(i * 31);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(2001);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(31 * 500)).isTrue();
+        assertThat(set.contains(-31 * 1000)).isTrue();
+        assertThat(set.contains(30)).isFalse();
+    }
+
+    @Test
+    public void shouldNotAddDuplicatedValue() {
+        // given
+        LongHashSet set = new LongHashSet();
+        set.add(7);
+        set.add(0);
+
+        // when
+        boolean addedValue = set.add(7);
+        boolean addedZero = set.add(0);
+
+        // then
+        assertThat(addedValue).isFalse();
+        assertThat(addedZero).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRemoveValuesKeepingTheOtherOnes() {
+        // given
+        LongHashSet set = new LongHashSet(4);
+        for (long i = 0; i < 100; i++) {
+            set.add(i);
+        }
+
+        // when
+        for (long i = 0; i < 100; i += 2) {
+            set.remove(i);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(50);
+        for (long i = 0; i < 100; i++) {
+            assertThat(set.contains(i)).isEqualTo(i % 2 == 1);
+        }
+    }
+
+    @Test
+    public void shouldReturnAllValuesAsArray() {
+        // given
+        LongHashSet set = new LongHashSet();
+        set.add(3);
+        set.add(0);
+        set.add(Long.MIN_VALUE);
+
+        // when
+        long[] values = set.toArray();
+
+        // then
+        Arrays.sort(values);
+        assertThat(values).isEqualTo(new long[] { Long.MIN_VALUE, 0, 3 });
+    }
+
+    @Test
+    public void shouldReflectChangesMadeThroughSetView() {
+        // given
+        LongHashSet set = Collections.newLongSet(0, 5, 7);
+        Set<Long> view = set.asSet();
+
+        // when
+        view.add(9L);
+        view.removeAll(Arrays.asList(5L, 6L));
+
+        // then
+        assertThat(set.contains(9)).isTrue();
+        assertThat(set.contains(5)).isFalse();
+        assertThat(view).containsOnly(0L, 7L, 9L);
+        assertThat(view).isEqualTo(Collections.newHashSet(0L, 7L, 9L));
+        assertThat(set).isEqualTo(Collections.newLongSet(9, 7, 0));
+    }
+}
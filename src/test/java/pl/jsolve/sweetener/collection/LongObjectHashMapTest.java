@@ -0,0 +1,91 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    public void shouldPutAndGetValues() {
+        // given
+        LongObjectHashMap<String> map = Maps.newLongObjectMap();
+
+        // when
+        for (long i = -1000; i <= 1000; i++) {
+            map.put(i * 31, "value" + i);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(2001);
+        assertThat(map.get(0)).isEqualTo("value0");
+        assertThat(map.get(-31 * 1000)).isEqualTo("value-1000");
+        assertThat(map.get(30)).isNull();
+        assertThat(map.containsKey(31 * 500)).isTrue();
+    }
+
+    @Test
+    public void shouldReplaceValueOfExistingKey() {
+        // given
+        LongObjectHashMap<String> map = Maps.newLongObjectMap();
+        map.put(7, "a");
+        map.put(0, "b");
+
+        // when
+        String previousValue = map.put(7, "c");
+        String previousValueOfZero = map.put(0, "d");
+
+        // then
+        assertThat(previousValue).isEqualTo("a");
+        assertThat(previousValueOfZero).isEqualTo("b");
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(7)).isEqualTo("c");
+        assertThat(map.get(0)).isEqualTo("d");
+    }
+
+    @Test
+    public void shouldRemoveEntriesKeepingTheOtherOnes() {
+        // given
+        LongObjectHashMap<Long> map = Maps.newLongObjectMapWithInitialCapacity(4);
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i * 10);
+        }
+
+        // when
+        for (long i = 0; i < 100; i += 2) {
+            map.remove(i);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(50);
+        for (long i = 0; i < 100; i++) {
+            assertThat(map.containsKey(i)).isEqualTo(i % 2 == 1);
+            assertThat(map.get(i)).isEqualTo(i % 2 == 1 ? i * 10 : null);
+        }
+    }
+
+    @Test
+    public void shouldReflectChangesMadeThroughMapView() {
+        // given
+        LongObjectHashMap<String> map = Maps.newLongObjectMap();
+        map.put(0, "zero");
+        map.put(1, "one");
+        Map<Long, String> view = map.asMap();
+
+        // when
+        view.put(2L, "two");
+        view.remove(1L);
+        for (Map.Entry<Long, String> entry : view.entrySet()) {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+
+        // then
+        assertThat(map.get(0)).isEqualTo("ZERO");
+        assertThat(map.get(2)).isEqualTo("TWO");
+        assertThat(map.containsKey(1)).isFalse();
+        assertThat(view).isEqualTo(Maps.newHashMap(view));
+        assertThat(view.keySet()).containsOnly(0L, 2L);
+    }
+}
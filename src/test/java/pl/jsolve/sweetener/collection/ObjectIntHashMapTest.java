@@ -0,0 +1,95 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class ObjectIntHashMapTest {
+
+    @Test
+    public void shouldCountOccurrencesOfKeys() {
+        // given
+        ObjectIntHashMap<String> map = Maps.newObjectIntMap();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            map.addTo("key" + (i % 10), 1);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(10);
+        assertThat(map.get("key3")).isEqualTo(100);
+        assertThat(map.get("key10")).isEqualTo(0);
+        assertThat(map.getOrDefault("key10", -1)).isEqualTo(-1);
+        assertThat(map.containsKey("key10")).isFalse();
+    }
+
+    @Test
+    public void shouldRemoveEntriesKeepingTheOtherOnes() {
+        // given
+        ObjectIntHashMap<Integer> map = Maps.newObjectIntMapWithInitialCapacity(4);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i * 10);
+        }
+
+        // when
+        for (int i = 0; i < 100; i += 2) {
+            map.remove(i);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(50);
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.containsKey(i)).isEqualTo(i % 2 == 1);
+            assertThat(map.get(i)).isEqualTo(i % 2 == 1 ? i * 10 : 0);
+        }
+    }
+
+    @Test
+    public void shouldReflectChangesMadeThroughMapView() {
+        // given
+        ObjectIntHashMap<String> map = Maps.newObjectIntMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        Map<String, Integer> view = map.asMap();
+
+        // when
+        Integer previousValue = view.put("c", 3);
+        view.remove("a");
+        for (Map.Entry<String, Integer> entry : view.entrySet()) {
+            entry.setValue(entry.getValue() * 10);
+        }
+
+        // then
+        assertThat(previousValue).isNull();
+        assertThat(map.get("b")).isEqualTo(20);
+        assertThat(map.get("c")).isEqualTo(30);
+        assertThat(view.get("a")).isNull();
+        assertThat(view).isEqualTo(Maps.newHashMap(view));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenKeyIsNull() {
+        // given
+        final ObjectIntHashMap<String> map = Maps.newObjectIntMap();
+
+        // when
+        NullPointerException caughtException = tryToCatch(NullPointerException.class, new ExceptionalOperation() {
+
+            @Override
+            public void operate() throws Exception {
+                map.put(null, 1);
+            }
+        });
+
+        // then
+        assertThrowable(caughtException).withMessage("Key cannot be null").isThrown();
+        assertThat(map.get(null)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,135 @@
+package pl.jsolve.sweetener.collection;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.collection.SortOrder.ascending;
+import static pl.jsolve.sweetener.collection.SortOrder.descending;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class SortingTest {
+
+    @Test
+    public void shouldSortByFieldPathAscending() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        List<Person> sortedPeople = Collections.sort(people, "age");
+
+        // then
+        assertThat(sortedPeople).onProperty("lastName").containsExactly("Duke", "Wolf", "Sky", "Hunt", "Rambo");
+    }
+
+    @Test
+    public void shouldSortByManyFieldPathsKeepingOrderOfEqualElements() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        List<Person> sortedPeople = Collections.sort(people, ascending("name"), descending("company.name"));
+
+        // then
+        assertThat(sortedPeople).onProperty("lastName").containsExactly("Sky", "Wolf", "Rambo", "Duke", "Hunt");
+    }
+
+    @Test
+    public void shouldReturnTopElements() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        List<Person> oldestPeople = Collections.topK(people, 2, descending("age"));
+        List<Person> youngestPeople = Collections.topK(people, 3, "age");
+
+        // then
+        assertThat(oldestPeople).onProperty("lastName").containsExactly("Rambo", "Hunt");
+        assertThat(youngestPeople).onProperty("lastName").containsExactly("Duke", "Wolf", "Sky");
+    }
+
+    @Test
+    public void shouldReturnTheSameTopElementsAsSorting() {
+        // given
+        Random random = new Random(7);
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < 10000; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, random.nextInt(100), null, null, null, null));
+        }
+
+        // when
+        List<Person> topPeople = Collections.topK(people, 100, descending("age"), ascending("name"));
+
+        // then
+        assertThat(topPeople).isEqualTo(
+                Collections.sort(people, descending("age"), ascending("name")).subList(0, 100));
+    }
+
+    @Test
+    public void shouldReturnAllElementsWhenThereAreFewerThanK() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        List<Person> topPeople = Collections.topK(people, 10, "age");
+
+        // then
+        assertThat(topPeople).isEqualTo(Collections.sort(people, "age"));
+    }
+
+    @Test
+    public void shouldNotSortByNotComparableField() {
+        // given
+        final List<Person> people = prepareListOfPeople();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        Collections.sort(people, "company");
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The field company is not comparable").isThrown();
+    }
+
+    @Test
+    public void shouldNotReturnNegativeNumberOfTopElements() {
+        // given
+        final List<Person> people = prepareListOfPeople();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        Collections.topK(people, -1, "age");
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The number of elements cannot be negative").isThrown();
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        people.add(new Person("John", "Wolf", 27, null, null, null, null));
+        people.add(new Person("John", "Sky", 31, new Company("EA", null), null, null, null));
+        people.add(new Person("Marry", "Duke", 25, new Company("Oracle", null), null, null, null));
+        people.add(new Person("Peter", "Hunt", 41, null, null, null, null));
+        people.add(new Person("John", "Rambo", 45, null, null, null, null));
+        return people;
+    }
+}
@@ -0,0 +1,114 @@
+package pl.jsolve.sweetener.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+
+import org.junit.After;
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+
+public class FieldAccessorsTest {
+
+    private static final String NAME = "John";
+    private static final String COMPANY_NAME = "Jsolve";
+
+    @After
+    public void restoreDefaultFieldAccessorFactory() {
+        Reflections.setFieldAccessorFactory(FieldAccessors.METHOD_HANDLE);
+    }
+
+    @Test
+    public void shouldUseMethodHandlesByDefault() {
+        // when
+        FieldAccessorFactory accessorFactory = Reflections.getFieldAccessorFactory();
+
+        // then
+        assertThat(accessorFactory).isSameAs(FieldAccessors.METHOD_HANDLE);
+    }
+
+    @Test
+    public void shouldGetAndSetPrimitiveValueUsingMethodHandleAccessor() throws Exception {
+        // given
+        Person person = new Person();
+        FieldAccessor accessor = FieldAccessors.METHOD_HANDLE.create(Person.class.getDeclaredField("age"));
+
+        // when
+        accessor.set(person, 27);
+
+        // then
+        assertThat(person.getAge()).isEqualTo(27);
+        assertThat(accessor.get(person)).isEqualTo(27);
+    }
+
+    @Test
+    public void shouldGetPrimitiveValueAsDoubleUsingBothAccessors() throws Exception {
+        // given
+        Person person = new Person();
+        person.setAge(27);
+        Field field = Person.class.getDeclaredField("age");
+
+        // when
+        double methodHandleValue = FieldAccessors.METHOD_HANDLE.create(field).getDouble(person);
+        double reflectionValue = FieldAccessors.REFLECTION.create(field).getDouble(person);
+
+        // then
+        assertThat(methodHandleValue).isEqualTo(27.0);
+        assertThat(reflectionValue).isEqualTo(27.0);
+    }
+
+    @Test
+    public void shouldGetPrimitiveValueAsLongUsingBothAccessors() throws Exception {
+        // given
+        Person person = new Person();
+        person.setAge(27);
+        Field field = Person.class.getDeclaredField("age");
+
+        // when
+        long methodHandleValue = FieldAccessors.METHOD_HANDLE.create(field).getLong(person);
+        long reflectionValue = FieldAccessors.REFLECTION.create(field).getLong(person);
+
+        // then
+        assertThat(methodHandleValue).isEqualTo(27L);
+        assertThat(reflectionValue).isEqualTo(27L);
+    }
+
+    @Test
+    public void shouldSetFinalFieldUsingMethodHandleAccessor() throws Exception {
+        // given
+        ObjectWithFinalField object = new ObjectWithFinalField(NAME);
+        Field field = ObjectWithFinalField.class.getDeclaredField("name");
+
+        // when
+        FieldAccessors.METHOD_HANDLE.create(field).set(object, COMPANY_NAME);
+
+        // then
+        assertThat(field.get(object)).isEqualTo(COMPANY_NAME);
+    }
+
+    @Test
+    public void shouldGetAndSetNestedValueUsingReflectionAccessors() {
+        // given
+        Reflections.setFieldAccessorFactory(FieldAccessors.REFLECTION);
+        Person person = new Person();
+        person.setCompany(new Company());
+
+        // when
+        Reflections.setFieldValue(person, "company.name", COMPANY_NAME);
+
+        // then
+        assertThat(Reflections.getFieldAccessorFactory()).isSameAs(FieldAccessors.REFLECTION);
+        assertThat(Reflections.getFieldValue(person, "company.name")).isEqualTo(COMPANY_NAME);
+    }
+
+    private static class ObjectWithFinalField {
+
+        private final String name;
+
+        ObjectWithFinalField(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -255,4 +255,123 @@ public class ReflectionsTest {
         // then
         assertThat(companyName).isEqualTo("jsolve");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResolveFieldPathOnlyOnceForGivenClass() {
+        // given
+        Person person = new Person();
+        person.setCompany(new Company("jsolve", null));
+        Reflections.getFieldValue(person, "company.name");
+        FieldPathCacheStatistics before = Reflections.getFieldPathCacheStatistics();
+
+        // when
+        Object companyName = Reflections.getFieldValue(person, "company.name");
+
+        // then
+        FieldPathCacheStatistics after = Reflections.getFieldPathCacheStatistics();
+        assertThat(companyName).isEqualTo("jsolve");
+        assertThat(after.getHits() - before.getHits()).isEqualTo(1);
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCountHitsOfAllThreads() throws InterruptedException {
+        // given
+        final Person person = new Person();
+        person.setCompany(new Company("jsolve", null));
+        Reflections.getFieldValue(person, "company.name");
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        Reflections.getFieldValue(person, "company.name");
+                    }
+                }
+            });
+        }
+        FieldPathCacheStatistics before = Reflections.getFieldPathCacheStatistics();
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        FieldPathCacheStatistics after = Reflections.getFieldPathCacheStatistics();
+        assertThat(after.getHits() - before.getHits()).isEqualTo(4000);
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCacheMissingField() {
+        // given
+        Person person = new Person();
+        boolean presentBefore = Reflections.isFieldPresent(person, "company.owner");
+        FieldPathCacheStatistics before = Reflections.getFieldPathCacheStatistics();
+
+        // when
+        boolean present = Reflections.isFieldPresent(person, "company.owner");
+
+        // then
+        FieldPathCacheStatistics after = Reflections.getFieldPathCacheStatistics();
+        assertThat(presentBefore).isFalse();
+        assertThat(present).isFalse();
+        // the path, then "company" and "owner" looked up again in the class of the nested value
+        assertThat(after.getHits() - before.getHits()).isEqualTo(3);
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCheckWhetherNestedFieldIsPresent() {
+        // given
+        Person person = new Person();
+
+        // when
+        boolean present = Reflections.isFieldPresent(person, "company.address.city");
+
+        // then
+        assertThat(present).isTrue();
+    }
+
+    @Test
+    public void shouldGetAndSetFieldDeclaredInSubclassOfNestedObject() {
+        // given
+        Owner owner = new Owner();
+        owner.pet = new Dog();
+        owner.pet.name = "Rex";
+        ((Dog) owner.pet).breed = "husky";
+
+        // when
+        Object breed = Reflections.getFieldValue(owner, "pet.breed");
+        Reflections.setFieldValue(owner, "pet.breed", "beagle");
+
+        // then
+        assertThat(breed).isEqualTo("husky");
+        assertThat(((Dog) owner.pet).breed).isEqualTo("beagle");
+        assertThat(Reflections.getFieldValue(owner, "pet.name")).isEqualTo("Rex");
+        assertThat(Reflections.getFieldType(owner, "pet.breed")).isEqualTo(String.class);
+        assertThat(Reflections.isFieldPresent(owner, "pet.breed")).isTrue();
+        assertThat(Reflections.isFieldPresent(owner, "pet.owner")).isFalse();
+    }
+
+    private static class Owner {
+
+        private Animal pet;
+    }
+
+    private static class Animal {
+
+        private String name;
+    }
+
+    private static class Dog extends Animal {
+
+        private String breed;
+    }
+}
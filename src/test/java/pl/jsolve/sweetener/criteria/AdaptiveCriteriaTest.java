@@ -0,0 +1,106 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.data.Person;
+
+public class AdaptiveCriteriaTest {
+
+    private static final int NUMBER_OF_PEOPLE = 1000;
+    private static final int WARM_UP_EVALUATIONS = 100;
+
+    @Test
+    public void shouldEvaluateMostSelectiveRestrictionFirstAfterWarmUp() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction notNull = Restrictions.isNotNull("name");
+        Restriction equals = Restrictions.equals("age", 7);
+        AdaptiveCriteria criteria = Criteria.newCriteria().add(notNull).add(equals).compile(Person.class)
+                .adaptive(WARM_UP_EVALUATIONS);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).hasSize(NUMBER_OF_PEOPLE / 100);
+        assertThat(criteria.isWarmedUp()).isTrue();
+        assertThat(criteria.getRestrictionsInEvaluationOrder()).containsExactly(equals, notNull);
+    }
+
+    @Test
+    public void shouldKeepOrderOfRestrictionsDuringWarmUp() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction notNull = Restrictions.isNotNull("name");
+        Restriction equals = Restrictions.equals("age", 7);
+        AdaptiveCriteria criteria = Criteria.newCriteria().add(notNull).add(equals).compile(Person.class)
+                .adaptive(NUMBER_OF_PEOPLE + 1);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).hasSize(NUMBER_OF_PEOPLE / 100);
+        assertThat(criteria.isWarmedUp()).isFalse();
+        assertThat(criteria.getRestrictionsInEvaluationOrder()).containsExactly(notNull, equals);
+    }
+
+    @Test
+    public void shouldReturnTheSameResultAsNotAdaptiveCriteria() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.like("name", "1"))
+                .add(Restrictions.greater("age", 50)).add(Restrictions.isNull("company"));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class).adaptive(10));
+
+        // then
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldNotEvaluateRestrictionsAfterRejectionDuringWarmUp() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.isNotNull("company"))
+                .add(Restrictions.equals("company.name", "X"));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class).adaptive(10));
+
+        // then
+        assertThat(filteredList).isEmpty();
+        assertThat(people).onProperty("company").containsOnly((Object) null);
+    }
+
+    @Test
+    public void shouldReturnRestrictionsOfCriteriaInEvaluationOrder() {
+        // given
+        Restriction greater = Restrictions.greater("age", 10);
+        Restriction less = Restrictions.less("age", 20);
+        Restriction alternative = Restrictions.or(Restrictions.equals("name", "John1"),
+                Restrictions.equals("name", "John2"));
+
+        // when
+        AdaptiveCriteria criteria = Criteria.newCriteria().add(greater).add(less).add(alternative)
+                .compile(Person.class).adaptive(WARM_UP_EVALUATIONS);
+
+        // then
+        assertThat(criteria.getRestrictionsInEvaluationOrder()).containsOnly(greater, less, alternative);
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, i % 100, null, null, null, null));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,156 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.criteria.Restrictions.and;
+import static pl.jsolve.sweetener.criteria.Restrictions.or;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class ColumnsTest {
+
+    private static final int NUMBER_OF_ROWS = 100;
+
+    @Test
+    public void shouldSelectRowsSatisfyingComparisonsOfPrimitiveColumns() {
+        // given
+        Columns columns = prepareColumns();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.greater("id", 90))
+                .add(Restrictions.between("score", 0.0, 0.5));
+
+        // when
+        BitSet selection = columns.select(criteria);
+
+        // then
+        assertThat(selection.cardinality()).isEqualTo(5);
+        assertThat(selection.get(92)).isTrue();
+        assertThat(selection.get(96)).isFalse();
+    }
+
+    @Test
+    public void shouldSelectRowsByEqualsAndInWithTheSemanticsOfBoxedValues() {
+        // given
+        Columns columns = prepareColumns();
+
+        // when
+        BitSet selectionByLong = columns.select(Restrictions.in("id", 3L, 5L, 7));
+        BitSet selectionByDouble = columns.select(Restrictions.equals("score", 0.5));
+
+        // then
+        assertThat(selectionByLong.cardinality()).isEqualTo(2);
+        assertThat(selectionByLong.get(3)).isTrue();
+        assertThat(selectionByLong.get(5)).isTrue();
+        assertThat(selectionByDouble.cardinality()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldSelectRowsSatisfyingAlternativeOfRestrictions() {
+        // given
+        Columns columns = prepareColumns();
+        Criteria criteria = Criteria.newCriteria().add(
+                or(Restrictions.like("name", "7"),
+                        and(Restrictions.notBetween("id", 10, 89), Restrictions.less("score", 0.2))));
+
+        // when
+        BitSet selection = columns.select(criteria);
+
+        // then
+        assertThat(selection).isEqualTo(filterRows(criteria));
+    }
+
+    @Test
+    public void shouldSelectAllRowsForEmptyCriteria() {
+        // given
+        Columns columns = prepareColumns();
+
+        // when
+        BitSet selection = columns.select(Criteria.newCriteria());
+
+        // then
+        assertThat(selection.cardinality()).isEqualTo(NUMBER_OF_ROWS);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenColumnDoesNotExist() {
+        // given
+        final Columns columns = prepareColumns();
+
+        // when
+        AccessToFieldException caughtException = tryToCatch(AccessToFieldException.class, new ExceptionalOperation() {
+
+            @Override
+            public void operate() throws Exception {
+                columns.select(Restrictions.equals("age", 7L));
+            }
+        });
+
+        // then
+        assertThrowable(caughtException).withMessage("The column age does not exist").isThrown();
+    }
+
+    @Test
+    public void shouldNotAddColumnOfDifferentLength() {
+        // given
+        final Columns columns = prepareColumns();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        columns.add("age", new long[NUMBER_OF_ROWS + 1]);
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The column age has 101 values but 100 were expected").isThrown();
+    }
+
+    // rows filtered as objects, with the values of the columns boxed
+    private BitSet filterRows(Criteria criteria) {
+        List<Row> rows = Collections.newArrayList();
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+            rows.add(new Row(i, (i % 10) / 10.0, "Name" + i));
+        }
+        BitSet selection = new BitSet();
+        for (Row row : Collections.filter(rows, criteria)) {
+            selection.set((int) row.id);
+        }
+        return selection;
+    }
+
+    private Columns prepareColumns() {
+        long[] ids = new long[NUMBER_OF_ROWS];
+        double[] scores = new double[NUMBER_OF_ROWS];
+        String[] names = new String[NUMBER_OF_ROWS];
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+            ids[i] = i;
+            scores[i] = (i % 10) / 10.0;
+            names[i] = "Name" + i;
+        }
+        return new Columns(NUMBER_OF_ROWS).add("id", ids).add("score", scores).add("name", names);
+    }
+
+    private static class Row {
+
+        private final long id;
+        private final double score;
+        private final String name;
+
+        Row(long id, double score, String name) {
+            this.id = id;
+            this.score = score;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.criteria.Restrictions.and;
+import static pl.jsolve.sweetener.criteria.Restrictions.or;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.data.Address;
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.criteria.restriction.AggregationRange;
+import pl.jsolve.sweetener.exception.AccessToFieldException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class CompiledCriteriaTest {
+
+    @Test
+    public void shouldFilterGivenCollectionByCompiledCriteria() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        CompiledCriteria criteria = Criteria.newCriteria().add(Restrictions.equals("name", "John"))
+                .add(Restrictions.greater("age", 30)).compile(Person.class);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).hasSize(1);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Sky");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByCompiledCriteriaForNestedObject() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        CompiledCriteria criteria = Criteria.newCriteria().add(Restrictions.isNotNull("company.name"))
+                .add(Restrictions.isNull("company.address.city")).compile(Person.class);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).hasSize(1);
+        assertThat(filteredList).onProperty("name").containsOnly("Marry");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByCompiledComplexRestrictions() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        CompiledCriteria criteria = Criteria
+                .newCriteria()
+                .add(or(and(Restrictions.equals("name", "John"), Restrictions.less("age", 30)),
+                        Restrictions.equals("company.name", "Oracle"))).compile(Person.class);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).hasSize(2);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Duke");
+    }
+
+    @Test
+    public void shouldReturnTheSameResultAsNotCompiledCriteria() {
+        // given
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.in("age", 27, 31, 41))
+                .add(Restrictions.like("lastName", "u"));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(prepareListOfPeople(), criteria);
+        Collection<Person> filteredByCompiledList = Collections.filter(prepareListOfPeople(),
+                criteria.compile(Person.class));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Hunt");
+        assertThat(filteredByCompiledList).onProperty("lastName").containsOnly("Hunt");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByNumericRestrictionsOnPrimitiveField() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        CompiledCriteria criteria = Criteria.newCriteria().add(Restrictions.between("age", 27, 41, false, true))
+                .add(Restrictions.lessOrEquals("age", 40L)).compile(Person.class);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Sky");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByAggregationsOfPrimitiveArray() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        CompiledCriteria criteria = Criteria.newCriteria()
+                .add(Restrictions.sum("luckyNumbers", 20, AggregationRange.GREATER))
+                .add(Restrictions.max("luckyNumbers", 16, AggregationRange.LESS))
+                .add(Restrictions.avg("luckyNumbers", 11.0, AggregationRange.EQUALS))
+                .add(Restrictions.count("luckyNumbers", 2, AggregationRange.EQUALS)).compile(Person.class);
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria);
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Sky");
+    }
+
+    @Test
+    public void shouldAggregateAllElementsOfPrimitiveArrayLongerThanOneBatch() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        people.get(3).setLuckyNumbers(new int[] { 4, -2, 9, 1, 8, 3, 7, 5, -6 });
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.sum("luckyNumbers", 29, AggregationRange.EQUALS))
+                .add(Restrictions.max("luckyNumbers", 9, AggregationRange.EQUALS))
+                .add(Restrictions.min("luckyNumbers", -6, AggregationRange.EQUALS));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Hunt");
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByAlternativeOfAggregationsOfTheSameField() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(
+                or(Restrictions.min("luckyNumbers", 10, AggregationRange.GREATER),
+                        Restrictions.sum("luckyNumbers", 30, AggregationRange.GREATER)));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Duke");
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldNotAggregateElementsWhenAlternativeIsDecidedByCount() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(
+                or(Restrictions.count("children", 0, AggregationRange.GREATER),
+                        Restrictions.max("children", 5, AggregationRange.LESS),
+                        Restrictions.sum("children", 5, AggregationRange.LESS)));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Sky", "Duke", "Hunt");
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenFieldDoesNotExist() {
+        // given
+        final Criteria criteria = Criteria.newCriteria().add(Restrictions.equals("company.owner", "John"));
+
+        // when
+        AccessToFieldException caughtException = tryToCatch(AccessToFieldException.class, new ExceptionalOperation() {
+
+            @Override
+            public void operate() throws Exception {
+                criteria.compile(Person.class);
+            }
+        });
+
+        // then
+        assertThrowable(caughtException).withMessage("The field company.owner does not exist").isThrown();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenFieldOfNeverSatisfiedRestrictionDoesNotExist() {
+        // given
+        final Criteria criteria = Criteria.newCriteria().add(
+                Restrictions.or(Restrictions.equals("company.owner", null), Restrictions.equals("lastName", "Wolf")));
+
+        // when
+        AccessToFieldException caughtException = tryToCatch(AccessToFieldException.class, new ExceptionalOperation() {
+
+            @Override
+            public void operate() throws Exception {
+                criteria.compile(Person.class);
+            }
+        });
+
+        // then
+        assertThrowable(caughtException).withMessage("The field company.owner does not exist").isThrown();
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+
+        people.add(new Person("John", "Wolf", 27, null, null, null, new int[] { 7, 11, 16 }));
+        people.add(new Person("John", "Sky", 31, new Company("EA", new Address("street1", "city1")), null,
+                new String[] { "Kate" }, new int[] { 7, 15 }));
+        people.add(new Person("Marry", "Duke", 45, new Company("Oracle", new Address("street2", null)), null,
+                new String[] { "Ainsley", "Ash" }, new int[] { 13 }));
+        people.add(new Person("Peter", "Hunt", 41, null, null, new String[] { "Aston" }, null));
+        return people;
+    }
+}
@@ -0,0 +1,198 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.Maps;
+import pl.jsolve.sweetener.collection.data.Person;
+
+public class CriteriaMetricsTest {
+
+    private static final int NUMBER_OF_PEOPLE = 100;
+
+    @Before
+    public void enableMetrics() {
+        CriteriaMetrics.reset();
+        CriteriaMetrics.enable();
+    }
+
+    @After
+    public void disableMetrics() {
+        CriteriaMetrics.disable();
+        CriteriaMetrics.reset();
+    }
+
+    @Test
+    public void shouldRecordEvaluationsOfRestrictions() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction less = Restrictions.less("age", 5);
+        Restriction like = Restrictions.like("name", "1");
+        Criteria criteria = Criteria.newCriteria().add(less).add(like);
+
+        // when
+        Collections.filter(people, criteria);
+        CriteriaMetricsSnapshot snapshot = CriteriaMetrics.getSnapshot();
+
+        // then
+        assertThat(snapshot.getStatistics(like).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(like).getSatisfied()).isEqualTo(19);
+        assertThat(snapshot.getStatistics(less).getEvaluations()).isEqualTo(19);
+        assertThat(snapshot.getStatistics(less).getSatisfied()).isEqualTo(14);
+        assertThat(snapshot.getStatistics(less).getRejected()).isEqualTo(5);
+        assertThat(snapshot.getStatistics(less).getName()).isEqualTo("Less(age)");
+        assertThat(snapshot.getEvaluations()).isEqualTo(119);
+        assertThat(snapshot.getFieldPathLookups().getRequests()).isEqualTo(119);
+    }
+
+    @Test
+    public void shouldRecordEvaluationsOfCompiledRestrictions() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction greater = Restrictions.greater("age", 6);
+        CompiledCriteria criteria = Criteria.newCriteria().add(greater).compile(Person.class);
+
+        // when
+        Collections.filter(people, criteria);
+        CriteriaMetricsSnapshot snapshot = CriteriaMetrics.getSnapshot();
+
+        // then
+        assertThat(snapshot.getStatistics(greater).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(greater).getSatisfiedRate()).isEqualTo(0.3);
+        assertThat(snapshot.getRestrictions()).hasSize(1);
+    }
+
+    @Test
+    public void shouldRecordEvaluationsOfCompiledRestrictionsOfTheSameField() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction greater = Restrictions.greater("age", 2);
+        Restriction less = Restrictions.less("age", 8);
+        CompiledCriteria criteria = Criteria.newCriteria().add(greater).add(less).compile(Person.class);
+
+        // when
+        Collections.filter(people, criteria);
+        CriteriaMetricsSnapshot snapshot = CriteriaMetrics.getSnapshot();
+
+        // then
+        assertThat(snapshot.getStatistics(greater).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(greater).getSatisfied()).isEqualTo(70);
+        assertThat(snapshot.getStatistics(less).getEvaluations()).isEqualTo(70);
+        assertThat(snapshot.getStatistics(less).getSatisfied()).isEqualTo(50);
+        assertThat(snapshot.getRestrictions()).hasSize(2);
+    }
+
+    @Test
+    public void shouldRecordCompiledAlternativeAsRestrictionOfCriteria() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction alternative = Restrictions.or(Restrictions.equals("age", 1), Restrictions.equals("age", 2));
+        CompiledCriteria criteria = Criteria.newCriteria().add(alternative).compile(Person.class);
+
+        // when
+        Collections.filter(people, criteria);
+        CriteriaMetricsSnapshot snapshot = CriteriaMetrics.getSnapshot();
+
+        // then
+        assertThat(snapshot.getStatistics(alternative).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(alternative).getSatisfied()).isEqualTo(20);
+        assertThat(snapshot.getRestrictions()).hasSize(1);
+    }
+
+    @Test
+    public void shouldRecordParallelEvaluationsOfTheSameCriteriaAfterReset() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Restriction greater = Restrictions.greater("age", 6);
+        Restriction less = Restrictions.less("age", 5);
+        CompiledCriteria compiledCriteria = Criteria.newCriteria().add(greater).compile(Person.class);
+        Criteria criteria = Criteria.newCriteria().add(less);
+        Collections.filter(people, compiledCriteria);
+        Collections.filter(people, criteria);
+        CriteriaMetrics.reset();
+
+        // when
+        Collections.parallelFilter(people, compiledCriteria, 4);
+        Collections.parallelFilter(people, criteria, 4);
+        CriteriaMetricsSnapshot snapshot = CriteriaMetrics.getSnapshot();
+
+        // then
+        assertThat(snapshot.getStatistics(greater).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(greater).getSatisfied()).isEqualTo(30);
+        assertThat(snapshot.getStatistics(less).getEvaluations()).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(snapshot.getStatistics(less).getSatisfied()).isEqualTo(50);
+    }
+
+    @Test
+    public void shouldNotRecordAnythingWhenDisabled() {
+        // given
+        CriteriaMetrics.disable();
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.less("age", 5));
+
+        // when
+        Collections.filter(people, criteria);
+        Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(CriteriaMetrics.getSnapshot().getRestrictions()).isEmpty();
+    }
+
+    @Test
+    public void shouldPublishSnapshotToRegistry() {
+        // given
+        Collections.filter(prepareListOfPeople(), Criteria.newCriteria().add(Restrictions.less("age", 5)));
+        final Map<String, Long> registry = Maps.newHashMap();
+
+        // when
+        CriteriaMetrics.getSnapshot().publishTo(new CriteriaMetricsPublisher() {
+
+            @Override
+            public void publish(String metric, String restriction, long value) {
+                registry.put(restriction == null ? metric : metric + "." + restriction, value);
+            }
+        });
+
+        // then
+        assertThat(registry.get("restriction.evaluations.Less(age)")).isEqualTo(NUMBER_OF_PEOPLE);
+        assertThat(registry.get("restriction.satisfied.Less(age)")).isEqualTo(50);
+        assertThat(registry.get("fieldPath.lookups")).isEqualTo(NUMBER_OF_PEOPLE);
+    }
+
+    @Test
+    public void shouldExposeMetricsThroughJmx() throws Exception {
+        // given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Collections.filter(prepareListOfPeople(), Criteria.newCriteria().add(Restrictions.less("age", 5)));
+
+        // when
+        ObjectName name = CriteriaMetrics.registerMBean(server);
+
+        // then
+        try {
+            assertThat(server.getAttribute(name, "Evaluations")).isEqualTo((long) NUMBER_OF_PEOPLE);
+            assertThat(server.getAttribute(name, "Enabled")).isEqualTo(true);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, i % 10, null, null, null, null));
+        }
+        return people;
+    }
+}
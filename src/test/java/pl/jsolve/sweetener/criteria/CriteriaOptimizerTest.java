@@ -0,0 +1,143 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.criteria.Restrictions.and;
+import static pl.jsolve.sweetener.criteria.Restrictions.or;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.criteria.restriction.And;
+import pl.jsolve.sweetener.criteria.restriction.In;
+import pl.jsolve.sweetener.criteria.restriction.Or;
+
+public class CriteriaOptimizerTest {
+
+    private static final int NUMBER_OF_PEOPLE = 100;
+
+    @Test
+    public void shouldFlattenNestedConjunctionsAndDisjunctions() {
+        // given
+        Restriction name = Restrictions.equals("name", "John1");
+        Restriction age = Restrictions.greater("age", 10);
+        Restriction lastName = Restrictions.like("lastName", "1");
+        Restriction company = Restrictions.isNull("company");
+
+        // when
+        Restriction conjunction = CriteriaOptimizer.optimize(and(name, and(age, and(lastName))));
+        Restriction disjunction = CriteriaOptimizer.optimize(or(or(name, age), or(lastName, company)));
+
+        // then
+        assertThat(((And) conjunction).getRestrictions()).containsExactly(name, age, lastName);
+        assertThat(((Or) disjunction).getRestrictions()).containsExactly(name, age, lastName, company);
+    }
+
+    @Test
+    public void shouldMergeAlternativesOfEqualsOnTheSameFieldIntoIn() {
+        // given
+        Restriction lastName = Restrictions.like("lastName", "1");
+
+        // when
+        Restriction optimized = CriteriaOptimizer.optimize(or(Restrictions.equals("age", 1), lastName,
+                Restrictions.equals("age", 2), Restrictions.in("age", 3, 4)));
+
+        // then
+        List<Restriction> alternatives = ((Or) optimized).getRestrictions();
+        assertThat(alternatives).hasSize(2);
+        assertThat(((In) alternatives.get(0)).getValue()).containsOnly(1, 2, 3, 4);
+        assertThat(alternatives.get(1)).isSameAs(lastName);
+    }
+
+    @Test
+    public void shouldNotMergeEqualsIgnoringCase() {
+        // given
+        Restriction john = Restrictions.equals("name", "john", true);
+        Restriction marry = Restrictions.equals("name", "Marry");
+
+        // when
+        Restriction optimized = CriteriaOptimizer.optimize(or(john, marry));
+
+        // then
+        assertThat(((Or) optimized).getRestrictions()).containsExactly(john, marry);
+    }
+
+    @Test
+    public void shouldRemoveAlwaysAndNeverSatisfiedBranches() {
+        // given
+        Restriction age = Restrictions.greater("age", 10);
+
+        // when
+        Restriction withoutAlwaysSatisfied = CriteriaOptimizer.optimize(and(age, Restrictions.notIn("name")));
+        Restriction withoutNeverSatisfied = CriteriaOptimizer.optimize(or(age, Restrictions.in("name"), or()));
+        Restriction neverSatisfied = CriteriaOptimizer.optimize(and(age, Restrictions.in("name")));
+        Restriction alwaysSatisfied = CriteriaOptimizer.optimize(or(age, and()));
+
+        // then
+        assertThat(withoutAlwaysSatisfied).isSameAs(age);
+        assertThat(withoutNeverSatisfied).isSameAs(age);
+        assertThat(((Or) neverSatisfied).getRestrictions()).isEmpty();
+        assertThat(((And) alwaysSatisfied).getRestrictions()).isEmpty();
+    }
+
+    @Test
+    public void shouldOptimizeCriteria() {
+        // given
+        Restriction age = Restrictions.greater("age", 10);
+        Restriction name = Restrictions.isNotNull("name");
+        Criteria criteria = Criteria.newCriteria().add(and(age, and(name))).add(Restrictions.notIn("lastName"));
+
+        // when
+        Criteria optimized = criteria.optimize();
+
+        // then
+        assertThat(optimized.getRestrictions()).containsExactly(age, name);
+    }
+
+    @Test
+    public void shouldFilterTheSameWayAfterOptimization() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria
+                .newCriteria()
+                .add(or(Restrictions.equals("age", 1), Restrictions.equals("age", 5), or(Restrictions.like("name", "7"),
+                        Restrictions.in("age", 9)))).add(and(Restrictions.notIn("name"), Restrictions.less("age", 8)))
+                .add(Restrictions.greaterOrEquals("age", 1));
+
+        // when
+        Collection<Person> optimizedList = Collections.filter(people, criteria.optimize());
+        Collection<Person> compiledList = Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(optimizedList).isEqualTo(Collections.filter(people, criteria));
+        assertThat(compiledList).isEqualTo(Collections.filter(people, criteria));
+        assertThat(compiledList).hasSize(34);
+    }
+
+    @Test
+    public void shouldReadFieldOnceForRestrictionsOfTheSameField() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.greater("age", 2))
+                .add(Restrictions.isNotNull("name")).add(Restrictions.less("age", 5))
+                .add(Restrictions.notIn("age", 3));
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people, criteria.compile(Person.class));
+
+        // then
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+        assertThat(filteredList).hasSize(10);
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayList();
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            people.add(new Person("John" + i, "Wolf" + i, i % 10, null, null, null, null));
+        }
+        return people;
+    }
+}
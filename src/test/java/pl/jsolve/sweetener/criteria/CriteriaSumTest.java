@@ -133,4 +133,34 @@ public class CriteriaSumTest {
         assertThat(filteredList).hasSize(2);
         assertThat(filteredList).onProperty("index").contains(1, 3);
     }
+
+    @Test
+    public void shouldSumPrimitiveArrayInTheOrderOfArrayOfWrappers() {
+        // given
+        List<Measurements> data = Collections.newArrayList(new Measurements(1e16, 1.0, 1.0, 1.0, 1.0, -1e16));
+
+        // when
+        Collection<Measurements> filteredByPrimitives = Collections.filter(data,
+                Criteria.newCriteria().add(Restrictions.sum("primitives", 0.0, AggregationRange.EQUALS)));
+        Collection<Measurements> filteredByWrappers = Collections.filter(data,
+                Criteria.newCriteria().add(Restrictions.sum("wrappers", 0.0, AggregationRange.EQUALS)));
+
+        // then
+        assertThat(filteredByPrimitives).hasSize(1);
+        assertThat(filteredByWrappers).hasSize(1);
+    }
+
+    private static class Measurements {
+
+        private final double[] primitives;
+        private final Double[] wrappers;
+
+        Measurements(double... values) {
+            this.primitives = values;
+            this.wrappers = new Double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                wrappers[i] = values[i];
+            }
+        }
+    }
 }
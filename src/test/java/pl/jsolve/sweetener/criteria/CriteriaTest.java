@@ -204,6 +204,128 @@ public class CriteriaTest {
         assertThat(filteredList).onProperty("lastName").contains("Wolf", "Sky", "Hunt");
     }
 
+    @Test
+    public void shouldFilterGivenCollectionByLikeIgnoringCase() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.like("name", "OHN", true)));
+
+        // then
+        assertThat(filteredList).hasSize(2);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Sky");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByLikeIgnoringCaseWhenNeedleIsLongerThanValue() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.like("lastName", "skyline", true)));
+
+        // then
+        assertThat(filteredList).isEmpty();
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByNotLikeIgnoringCase() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.notLike("lastName", "uK", true)));
+
+        // then
+        assertThat(filteredList).hasSize(3);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Sky", "Hunt");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByWildcardPrefix() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.wildcard("name", "Jo%")));
+
+        // then
+        assertThat(filteredList).hasSize(2);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Sky");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByWildcardSuffixIgnoringCase() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.wildcard("lastName", "%KE", true)));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Duke");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByWildcardPattern() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.wildcard("lastName", "_u%e")));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Duke");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByWildcardWithEscapedWildcard() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        people.get(0).setName("100%");
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.wildcard("name", "%0\\%")));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByRegularExpression() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.matches("name", "J[a-z]+n")));
+
+        // then
+        assertThat(filteredList).hasSize(2);
+        assertThat(filteredList).onProperty("lastName").containsOnly("Wolf", "Sky");
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByRegularExpressionWithQuantifiedPrefix() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.matches("name", "Marr?y|Pete.")));
+
+        // then
+        assertThat(filteredList).onProperty("lastName").containsOnly("Duke", "Hunt");
+    }
+
     @Test
     public void shouldFilterGivenCollectionByContainsForList() {
         // given
@@ -598,6 +720,51 @@ public class CriteriaTest {
         assertThat(filteredList).onProperty("lastName").contains("Wolf", "Hunt");
     }
 
+    @Test
+    public void shouldFilterGivenCollectionByInRestrictionWithManyValues() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Object[] ages = new Object[5000];
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = 31 + i * 14;
+        }
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.in("age", ages)));
+
+        // then
+        assertThat(filteredList).hasSize(2);
+        assertThat(filteredList).onProperty("lastName").contains("Sky", "Duke");
+    }
+
+    @Test
+    public void shouldNotFilterGivenCollectionByInRestrictionWithValuesOfOtherNumberType() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.in("age", 27L, 31L)));
+
+        // then
+        assertThat(filteredList).isEmpty();
+    }
+
+    @Test
+    public void shouldFilterGivenCollectionByInRestrictionWithValuesOfMixedTypes() {
+        // given
+        List<Person> people = prepareListOfPeople();
+
+        // when
+        Collection<Person> filteredList = Collections.filter(people,
+                Criteria.newCriteria().add(Restrictions.in("name", "Marry", 27, null)));
+
+        // then
+        assertThat(filteredList).hasSize(1);
+        assertThat(filteredList).onProperty("lastName").contains("Duke");
+    }
+
     @Test
     public void shouldFilterGivenCollectionByNotInRestriction() {
         // given
@@ -0,0 +1,92 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.data.Person;
+
+public class LazyFilterTest {
+
+    @Test
+    public void shouldFilterIterableLazily() {
+        // given
+        PeopleIterator source = new PeopleIterator();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.equals("age", 3));
+
+        // when
+        Iterator<Person> filteredPeople = Collections.lazyFilter(source, criteria);
+        Person first = filteredPeople.next();
+        Person second = filteredPeople.next();
+
+        // then
+        assertThat(first.getName()).isEqualTo("John3");
+        assertThat(second.getName()).isEqualTo("John13");
+        assertThat(source.numberOfReadPeople).isEqualTo(14);
+    }
+
+    @Test
+    public void shouldReturnFirstElementsSatisfyingCriteriaWithoutReadingTheWholeSource() {
+        // given
+        PeopleIterator source = new PeopleIterator();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.greater("age", 7));
+
+        // when
+        List<Person> people = Collections.first(source, criteria, 3);
+
+        // then
+        assertThat(people).onProperty("name").containsExactly("John8", "John9", "John18");
+        assertThat(source.numberOfReadPeople).isEqualTo(19);
+    }
+
+    @Test
+    public void shouldFilterIterableEveryTimeItIsIterated() {
+        // given
+        List<Person> people = Collections.first(new PeopleIterator(), Criteria.newCriteria(), 100);
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.less("age", 2));
+
+        // when
+        Iterable<Person> filteredPeople = Collections.lazyFilter(people, criteria);
+
+        // then
+        assertThat(Collections.newArrayList(filteredPeople)).hasSize(20);
+        assertThat(Collections.newArrayList(filteredPeople)).hasSize(20);
+    }
+
+    @Test
+    public void shouldCountElementsSatisfyingCriteria() {
+        // given
+        List<Person> people = Collections.first(new PeopleIterator(), Criteria.newCriteria(), 1000);
+
+        // when
+        long count = Collections.count(people, Criteria.newCriteria().add(Restrictions.in("age", 1, 2, 3)));
+
+        // then
+        assertThat(count).isEqualTo(300);
+    }
+
+    private static class PeopleIterator implements Iterator<Person> {
+
+        private int numberOfReadPeople;
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public Person next() {
+            int i = numberOfReadPeople++;
+            return new Person("John" + i, "Wolf" + i, i % 10, null, null, null, null);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
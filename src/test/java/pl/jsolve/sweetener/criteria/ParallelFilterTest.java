@@ -0,0 +1,95 @@
+package pl.jsolve.sweetener.criteria;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static pl.jsolve.sweetener.tests.assertion.ThrowableAssertions.assertThrowable;
+import static pl.jsolve.sweetener.tests.catcher.ExceptionCatcher.tryToCatch;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.data.Company;
+import pl.jsolve.sweetener.collection.data.Person;
+import pl.jsolve.sweetener.exception.InvalidArgumentException;
+import pl.jsolve.sweetener.tests.catcher.ExceptionalOperation;
+
+public class ParallelFilterTest {
+
+    private static final int NUMBER_OF_PEOPLE = 20000;
+    private static final int PARALLELISM = 4;
+
+    @Test
+    public void shouldFilterInParallelPreservingOrderOfElements() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.greaterOrEquals("age", 50))
+                .add(Restrictions.equals("company.name", "Oracle"));
+
+        // when
+        Collection<Person> filteredList = Collections.parallelFilter(people, criteria, PARALLELISM);
+
+        // then
+        assertThat((Object) filteredList).isInstanceOf(people.getClass());
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldFilterInParallelByCompiledCriteria() {
+        // given
+        List<Person> people = prepareListOfPeople();
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.less("age", 10));
+
+        // when
+        Collection<Person> filteredList = Collections.parallelFilter(people, criteria.compile(Person.class),
+                PARALLELISM);
+
+        // then
+        assertThat(filteredList).hasSize(NUMBER_OF_PEOPLE / 10);
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldFilterInParallelCollectionWithoutRandomAccess() {
+        // given
+        List<Person> people = new LinkedList<Person>(prepareListOfPeople());
+        Criteria criteria = Criteria.newCriteria().add(Restrictions.between("age", 20, 29));
+
+        // when
+        Collection<Person> filteredList = Collections.parallelFilter(people, criteria, PARALLELISM);
+
+        // then
+        assertThat((Object) filteredList).isInstanceOf(LinkedList.class);
+        assertThat(filteredList).isEqualTo(Collections.filter(people, criteria));
+    }
+
+    @Test
+    public void shouldNotFilterInParallelWithoutThreads() {
+        // given
+        final List<Person> people = prepareListOfPeople();
+
+        // when
+        InvalidArgumentException caughtException = tryToCatch(InvalidArgumentException.class,
+                new ExceptionalOperation() {
+
+                    @Override
+                    public void operate() throws Exception {
+                        Collections.parallelFilter(people, Criteria.newCriteria(), 0);
+                    }
+                });
+
+        // then
+        assertThrowable(caughtException).withMessage("The parallelism has to be greater than zero").isThrown();
+    }
+
+    private List<Person> prepareListOfPeople() {
+        List<Person> people = Collections.newArrayListWithCapacity(NUMBER_OF_PEOPLE);
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            Company company = new Company(i % 3 == 0 ? "Oracle" : "EA", null);
+            people.add(new Person("John" + i, "Wolf" + i, i % 100, company, null, null, null));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,23 @@
+package pl.jsolve.sweetener.benchmark;
+
+public class Company {
+
+    private String name;
+    private Address address;
+
+    public Company() {
+    }
+
+    public Company(String name, Address address) {
+        this.name = name;
+        this.address = address;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+}
@@ -0,0 +1,50 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.criteria.CompiledCriteria;
+import pl.jsolve.sweetener.criteria.Criteria;
+import pl.jsolve.sweetener.criteria.Restrictions;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CriteriaBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private List<Person> people;
+    private Criteria criteria;
+    private CompiledCriteria compiledCriteria;
+
+    @Setup
+    public void setUp() {
+        people = People.generate(size);
+        criteria = Criteria.newCriteria().add(Restrictions.equals("company.name", "Oracle"))
+                .add(Restrictions.between("age", 25, 40)).add(Restrictions.like("name", "a"));
+        compiledCriteria = criteria.compile(Person.class);
+    }
+
+    @Benchmark
+    public Collection<Person> filter() {
+        return Collections.filter(people, criteria);
+    }
+
+    @Benchmark
+    public Collection<Person> filterByCompiledCriteria() {
+        return Collections.filter(people, compiledCriteria);
+    }
+}
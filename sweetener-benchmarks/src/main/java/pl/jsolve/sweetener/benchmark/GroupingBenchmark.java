@@ -0,0 +1,55 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.collection.GroupKey;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroupingBenchmark {
+
+    private static final int PARALLELISM = 4;
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private List<Person> people;
+
+    @Setup
+    public void setUp() {
+        people = People.generate(size);
+    }
+
+    @Benchmark
+    public Map<GroupKey, List<Person>> group() {
+        return Collections.group(people, "company.name", "age");
+    }
+
+    @Benchmark
+    public Map<GroupKey, List<Person>> groupByPrimitiveField() {
+        return Collections.group(people, "age");
+    }
+
+    @Benchmark
+    public Map<GroupKey, List<Person>> parallelGroup() {
+        return Collections.parallelGroup(people, PARALLELISM, "company.name", "age");
+    }
+
+    @Benchmark
+    public Map<GroupKey, List<Person>> duplicates() {
+        return Collections.duplicates(people, "lastName");
+    }
+}
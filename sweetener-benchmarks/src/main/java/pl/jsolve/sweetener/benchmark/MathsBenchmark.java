@@ -0,0 +1,59 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.collection.Collections;
+import pl.jsolve.sweetener.math.Maths;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MathsBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private List<Integer> integers;
+    private List<Double> doubles;
+    private Double[] doublesArray;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        integers = Collections.newArrayListWithCapacity(size);
+        doubles = Collections.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            integers.add(random.nextInt(1000));
+            doubles.add(random.nextDouble());
+        }
+        doublesArray = doubles.toArray(new Double[size]);
+    }
+
+    @Benchmark
+    public double varianceInteger() {
+        return Maths.varianceInteger(integers);
+    }
+
+    @Benchmark
+    public double varianceDouble() {
+        return Maths.varianceDouble(doubles);
+    }
+
+    @Benchmark
+    public double varianceDoubleArray() {
+        return Maths.varianceDouble(doublesArray);
+    }
+}
@@ -0,0 +1,33 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import pl.jsolve.sweetener.collection.Collections;
+
+/**
+ * Generates the same list of people for a given size on every run, so results of different releases are comparable.
+ */
+final class People {
+
+    private static final long SEED = 42L;
+    private static final String[] NAMES = { "John", "Marry", "Peter", "Kate", "Ash", "Ainsley", "Aston", "Brian" };
+    private static final String[] COMPANIES = { "EA", "Oracle", "IBM", "Jsolve", "Sun" };
+    private static final String[] CITIES = { "Warsaw", "Cracow", "Wroclaw", "Gdansk" };
+
+    private People() {
+        throw new AssertionError("Using constructor of this class is prohibited.");
+    }
+
+    static List<Person> generate(int size) {
+        Random random = new Random(SEED);
+        List<Person> people = Collections.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            Address address = new Address("street" + random.nextInt(100), CITIES[random.nextInt(CITIES.length)]);
+            Company company = new Company(COMPANIES[random.nextInt(COMPANIES.length)], address);
+            people.add(new Person(NAMES[random.nextInt(NAMES.length)], "Wolf" + random.nextInt(size), 18 + random
+                    .nextInt(50), company));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,35 @@
+package pl.jsolve.sweetener.benchmark;
+
+public class Person {
+
+    private String name;
+    private String lastName;
+    private int age;
+    private Company company;
+
+    public Person() {
+    }
+
+    public Person(String name, String lastName, int age, Company company) {
+        this.name = name;
+        this.lastName = lastName;
+        this.age = age;
+        this.company = company;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+}
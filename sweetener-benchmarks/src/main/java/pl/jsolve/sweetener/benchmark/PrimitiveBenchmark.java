@@ -0,0 +1,66 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.criteria.Columns;
+import pl.jsolve.sweetener.criteria.Restriction;
+import pl.jsolve.sweetener.criteria.Restrictions;
+import pl.jsolve.sweetener.criteria.restriction.AggregationRange;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({ "1000", "1000000" })
+    private int size;
+
+    private int[] integers;
+    private Columns columns;
+    private Restriction sum;
+    private Restriction max;
+    private Restriction between;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        integers = new int[size];
+        double[] doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            integers[i] = random.nextInt(1000);
+            doubles[i] = random.nextDouble();
+        }
+        columns = new Columns(size).add("value", doubles);
+        sum = Restrictions.sum("values", 0, AggregationRange.GREATER);
+        max = Restrictions.max("values", 500, AggregationRange.GREATER);
+        between = Restrictions.between("value", 0.25, 0.75);
+    }
+
+    @Benchmark
+    public boolean sumOfIntArray() {
+        return sum.satisfies(integers);
+    }
+
+    @Benchmark
+    public boolean maxOfIntArray() {
+        return max.satisfies(integers);
+    }
+
+    @Benchmark
+    public BitSet selectBetweenOverDoubleColumn() {
+        return columns.select(between);
+    }
+}
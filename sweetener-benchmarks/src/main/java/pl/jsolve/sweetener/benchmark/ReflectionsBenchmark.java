@@ -0,0 +1,35 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.core.Reflections;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReflectionsBenchmark {
+
+    @Param({ "name", "company.name", "company.address.city" })
+    private String path;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        person = new Person("John", "Wolf", 27, new Company("Jsolve", new Address("street", "Warsaw")));
+    }
+
+    @Benchmark
+    public Object getFieldValue() {
+        return Reflections.getFieldValue(person, path);
+    }
+}
@@ -0,0 +1,44 @@
+package pl.jsolve.sweetener.benchmark;
+
+import static pl.jsolve.sweetener.collection.SortOrder.ascending;
+import static pl.jsolve.sweetener.collection.SortOrder.descending;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.collection.Collections;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SortingBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private List<Person> people;
+
+    @Setup
+    public void setUp() {
+        people = People.generate(size);
+    }
+
+    @Benchmark
+    public List<Person> sort() {
+        return Collections.sort(people, descending("age"), ascending("lastName"));
+    }
+
+    @Benchmark
+    public List<Person> topK() {
+        return Collections.topK(people, 100, descending("age"), ascending("lastName"));
+    }
+}
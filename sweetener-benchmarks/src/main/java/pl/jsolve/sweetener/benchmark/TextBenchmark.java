@@ -0,0 +1,55 @@
+package pl.jsolve.sweetener.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pl.jsolve.sweetener.text.Escapes;
+import pl.jsolve.sweetener.text.Strings;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextBenchmark {
+
+    private static final long SEED = 42L;
+    private static final String ALPHABET = "abcdefghij klmnop<>&\"'ąęó";
+
+    @Param({ "1000", "100000" })
+    private int length;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public String escapeHtml() {
+        return Escapes.escapeHtml(text);
+    }
+
+    @Benchmark
+    public int numberOfOccurrences() {
+        return Strings.numberOfOccurrences(text, "ab");
+    }
+
+    @Benchmark
+    public int numberOfOccurrencesOfCharacter() {
+        return Strings.numberOfOccurrences(text, 'a');
+    }
+}